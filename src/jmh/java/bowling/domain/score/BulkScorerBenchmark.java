@@ -0,0 +1,104 @@
+package bowling.domain.score;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.roll.PackedRolls;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 게임 묶음을 BowlingGame 객체, 투구 배열(RollScorer), long 두개(PackedGameScorer),
+ * struct-of-arrays(BulkScorer) 로 계산해 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkScorerBenchmark {
+
+    private static final int GAMES = 4096;
+    private static final int LAST_FRAME = 10;
+
+    @Param({"1", "7"})
+    private long seed;
+
+    private byte[][] rolls;
+    private byte[][] packedRolls;
+    private int[][] slots;
+    private long[] lows;
+    private long[] highs;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(seed);
+        rolls = new byte[GAMES][];
+        packedRolls = new byte[GAMES][];
+        lows = new long[GAMES];
+        highs = new long[GAMES];
+
+        for (int g = 0; g < GAMES; g++) {
+            rolls[g] = GameFixtures.randomGame(random);
+            packedRolls[g] = PackedRolls.pack(rolls[g], rolls[g].length);
+            lows[g] = PackedGameScorer.low(rolls[g]);
+            highs[g] = PackedGameScorer.high(rolls[g]);
+        }
+        slots = BulkScorer.toSlots(rolls);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long objectGraph() {
+        long sum = 0;
+
+        for (byte[] game : rolls) {
+            BowlingGame bowlingGame = new BowlingGame(new Player("JMH"));
+            for (byte pins : game) {
+                bowlingGame.play(pins);
+            }
+            sum += bowlingGame.totalScore(LAST_FRAME);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long rollScorer() {
+        long sum = 0;
+
+        for (byte[] game : packedRolls) {
+            sum += RollScorer.score(game);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long packedGameScorer() {
+        long sum = 0;
+
+        for (int g = 0; g < GAMES; g++) {
+            sum += PackedGameScorer.score(lows[g], highs[g]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long bulkScorer() {
+        long sum = 0;
+
+        for (int total : BulkScorer.scoreAll(slots)) {
+            sum += total;
+        }
+        return sum;
+    }
+}
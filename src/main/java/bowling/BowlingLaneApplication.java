@@ -0,0 +1,26 @@
+package bowling;
+
+import bowling.domain.PlayerRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
+
+@SpringBootApplication
+public class BowlingLaneApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(BowlingLaneApplication.class, args);
+    }
+
+    @Bean
+    public PlayerRegistry playerRegistry() {
+        return new PlayerRegistry();
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,58 @@
+package bowling;
+
+import bowling.domain.score.Score;
+import bowling.simulation.GameSimulator;
+import bowling.simulation.SimulationResult;
+import bowling.simulation.SkillProfile;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 인자 : [games] [beginner|amateur|pro] [parallelism] [seed]
+ */
+public class SimulationApplication {
+
+    private static final int BAR_WIDTH = 50;
+    private static final int BUCKET = 10;
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        SkillProfile profile = args.length > 1 ? SkillProfile.of(args[1]) : SkillProfile.AMATEUR;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        SimulationResult result = new GameSimulator(pool).simulate(profile, games, seed);
+        pool.shutdown();
+
+        System.out.printf("profile=%s games=%d parallelism=%d elapsed=%.1fs throughput=%.0f games/s%n",
+                profile.getName(), result.getGames(), parallelism, result.getElapsedNanos() / 1_000_000_000.0,
+                result.getGamesPerSecond());
+        System.out.printf("mean=%.1f min=%d p50=%d p90=%d p99=%d max=%d%n", result.getMean(), result.getMin(),
+                result.getPercentile(50), result.getPercentile(90), result.getPercentile(99), result.getMax());
+        printHistogram(result);
+    }
+
+    private static void printHistogram(final SimulationResult result) {
+        long[] buckets = new long[Score.MAX_SCORE / BUCKET + 1];
+        long largest = 1;
+
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            buckets[score / BUCKET] += result.getCount(score);
+        }
+        for (long count : buckets) {
+            largest = Math.max(largest, count);
+        }
+
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] == 0) {
+                continue;
+            }
+            StringBuilder bar = new StringBuilder();
+            for (long width = buckets[i] * BAR_WIDTH / largest; width > 0; width--) {
+                bar.append('#');
+            }
+            System.out.printf("%3d-%3d %10d %s%n", i * BUCKET, i * BUCKET + BUCKET - 1, buckets[i], bar);
+        }
+    }
+}
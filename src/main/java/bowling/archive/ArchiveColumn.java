@@ -0,0 +1,28 @@
+package bowling.archive;
+
+import bowling.domain.roll.PackedRolls;
+
+/**
+ * 게임 하나당 고정 크기로 저장되는 컬럼. i 번째 게임의 값은 각 파일의 i * width 위치에 있다.
+ */
+public enum ArchiveColumn {
+    PLAYERS("players.col", Long.BYTES),
+    TOTALS("totals.col", Short.BYTES),
+    ROLLS("rolls.col", PackedRolls.MAX_PACKED_BYTES);
+
+    private final String fileName;
+    private final int width;
+
+    ArchiveColumn(final String fileName, final int width) {
+        this.fileName = fileName;
+        this.width = width;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,126 @@
+package bowling.archive;
+
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.PackedRolls;
+import bowling.domain.score.BulkScorer;
+import bowling.domain.score.PackedGameScorer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 컬럼 파일을 읽기 전용으로 mapping 하고 게임 번호로 바로 접근한다. 투구는 nibble 그대로 읽으며
+ * Frame 객체로 복원하지 않는다.
+ */
+public class GameArchiveReader {
+
+    private static final int TOTAL_MASK = 0xFFFF;
+    private static final int NORMAL_FRAMES = PackedGameScorer.FRAMES - 1;
+    private static final int LAST_FRAME_SLOT = 18;
+
+    private final MappedByteBuffer players;
+    private final MappedByteBuffer totals;
+    private final MappedByteBuffer rolls;
+    private final int size;
+
+    public GameArchiveReader(final Path directory) throws IOException {
+        this.players = map(directory, ArchiveColumn.PLAYERS);
+        this.totals = map(directory, ArchiveColumn.TOTALS);
+        this.rolls = map(directory, ArchiveColumn.ROLLS);
+        this.size = totals.capacity() / ArchiveColumn.TOTALS.getWidth();
+    }
+
+    private static MappedByteBuffer map(final Path directory, final ArchiveColumn column) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(column.getFileName()), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getPlayerKey(final int game) {
+        return players.getLong(game * ArchiveColumn.PLAYERS.getWidth());
+    }
+
+    public int getTotal(final int game) {
+        return totals.getShort(game * ArchiveColumn.TOTALS.getWidth()) & TOTAL_MASK;
+    }
+
+    public int getRoll(final int game, final int index) {
+        return PackedRolls.get(rolls, game * ArchiveColumn.ROLLS.getWidth(), index);
+    }
+
+    public int score(final int game) {
+        int offset = game * ArchiveColumn.ROLLS.getWidth();
+        return PackedGameScorer.score(PackedGameScorer.low(rolls, offset), PackedGameScorer.high(rolls, offset));
+    }
+
+    public long sumTotals() {
+        long sum = 0;
+
+        for (int game = 0; game < size; game++) {
+            sum += getTotal(game);
+        }
+        return sum;
+    }
+
+    public double average(final long playerKey) {
+        long sum = 0;
+        int games = 0;
+
+        for (int game = 0; game < size; game++) {
+            if (getPlayerKey(game) == playerKey) {
+                sum += getTotal(game);
+                games++;
+            }
+        }
+        return games == 0 ? 0 : (double) sum / games;
+    }
+
+    public long rescoreAll() {
+        long sum = 0;
+
+        for (int game = 0; game < size; game++) {
+            sum += score(game);
+        }
+        return sum;
+    }
+
+    public int[][] toSlots(final int from, final int count) {
+        int[][] slots = new int[BulkScorer.SLOTS][count];
+
+        for (int g = 0; g < count; g++) {
+            int offset = (from + g) * ArchiveColumn.ROLLS.getWidth();
+            int roll = 0;
+
+            for (int frame = 0; frame < NORMAL_FRAMES; frame++) {
+                int first = PackedRolls.get(rolls, offset, roll++);
+                slots[2 * frame][g] = first;
+                if (first != Pin.MAX_PIN) {
+                    slots[2 * frame + 1][g] = PackedRolls.get(rolls, offset, roll++);
+                }
+            }
+            for (int slot = LAST_FRAME_SLOT; slot < BulkScorer.SLOTS; slot++) {
+                slots[slot][g] = PackedRolls.get(rolls, offset, roll++);
+            }
+        }
+
+        return slots;
+    }
+
+    public long bulkRescoreAll(final int batch) {
+        long sum = 0;
+
+        for (int from = 0; from < size; from += batch) {
+            for (int total : BulkScorer.scoreAll(toSlots(from, Math.min(batch, size - from)))) {
+                sum += total;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+package bowling.archive;
+
+import bowling.domain.roll.PackedRolls;
+import bowling.domain.roll.RollValidator;
+import bowling.domain.score.RollScorer;
+import bowling.exception.BowlingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 완료된 게임을 컬럼별 파일 끝에 이어 붙인다. 컬럼마다 버퍼에 모았다가 가득 차거나 flush 할 때 한번에 쓴다.
+ */
+public class GameArchiveWriter implements Closeable {
+
+    private static final int DEFAULT_BUFFER_GAMES = 4096;
+
+    private final FileChannel[] channels = new FileChannel[ArchiveColumn.values().length];
+    private final ByteBuffer[] buffers = new ByteBuffer[ArchiveColumn.values().length];
+
+    public GameArchiveWriter(final Path directory) throws IOException {
+        this(directory, DEFAULT_BUFFER_GAMES);
+    }
+
+    public GameArchiveWriter(final Path directory, final int bufferGames) throws IOException {
+        Files.createDirectories(directory);
+
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            channels[column.ordinal()] = FileChannel.open(directory.resolve(column.getFileName()),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            buffers[column.ordinal()] = ByteBuffer.allocate(column.getWidth() * bufferGames);
+        }
+    }
+
+    public int append(final String playerName, final byte[] rolls) {
+        int validation = RollValidator.validate(rolls);
+        if (!RollValidator.isValid(validation)) {
+            throw new BowlingException(RollValidator.messageOf(validation));
+        }
+
+        if (!buffer(ArchiveColumn.TOTALS).hasRemaining()) {
+            flush();
+        }
+
+        byte[] packed = new byte[PackedRolls.MAX_PACKED_BYTES];
+        byte[] compact = PackedRolls.pack(rolls, rolls.length);
+        System.arraycopy(compact, 0, packed, 0, compact.length);
+        int total = RollScorer.score(packed);
+
+        buffer(ArchiveColumn.PLAYERS).putLong(PlayerKey.encode(playerName));
+        buffer(ArchiveColumn.TOTALS).putShort((short) total);
+        buffer(ArchiveColumn.ROLLS).put(packed);
+        return total;
+    }
+
+    private ByteBuffer buffer(final ArchiveColumn column) {
+        return buffers[column.ordinal()];
+    }
+
+    public void flush() {
+        try {
+            for (ArchiveColumn column : ArchiveColumn.values()) {
+                ByteBuffer buffer = buffer(column);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channels[column.ordinal()].write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+
+        for (FileChannel channel : channels) {
+            channel.close();
+        }
+    }
+}
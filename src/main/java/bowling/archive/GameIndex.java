@@ -0,0 +1,93 @@
+package bowling.archive;
+
+import bowling.collection.CompressedBitmap;
+import bowling.domain.frame.Frame;
+import bowling.domain.frame.FrameResult;
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.PackedRolls;
+import bowling.exception.BowlingException;
+
+/**
+ * 보관된 게임을 (프레임, 결과) 마다 게임 번호의 CompressedBitmap 으로 색인한다. 색인은 투구 nibble 을 한번 훑어
+ * 만들고, "7~9 프레임 터키" 같은 질의는 Frame 객체 없이 bitmap 의 and/or 로 계산한다. 10 프레임은 첫 두 투구로 분류한다.
+ */
+public class GameIndex {
+
+    private static final String FRAME_NUMBER_ERR_MESSAGE = "1~10번 프레임만 조회 가능 합니다.";
+    private static final int MIN_FRAME_NUMBER = 1;
+    private static final int TURKEY_FRAMES = 3;
+    private static final FrameResult[] RESULTS = FrameResult.values();
+
+    private final CompressedBitmap[][] bitmaps = new CompressedBitmap[Frame.MAX_FRAME_NUMBER][RESULTS.length];
+    private int size;
+
+    public GameIndex() {
+        for (CompressedBitmap[] frame : bitmaps) {
+            for (int result = 0; result < RESULTS.length; result++) {
+                frame[result] = new CompressedBitmap();
+            }
+        }
+    }
+
+    public static GameIndex of(final GameArchiveReader reader) {
+        GameIndex index = new GameIndex();
+        int[] rolls = new int[PackedRolls.MAX_ROLLS];
+
+        for (int game = 0; game < reader.size(); game++) {
+            for (int roll = 0; roll < rolls.length; roll++) {
+                rolls[roll] = reader.getRoll(game, roll);
+            }
+            index.add(game, rolls);
+        }
+        return index;
+    }
+
+    public void add(final int game, final int[] rolls) {
+        int roll = 0;
+
+        for (int frame = 0; frame < Frame.MAX_FRAME_NUMBER; frame++) {
+            int first = rolls[roll];
+            int second = first == Pin.MAX_PIN || roll + 1 >= rolls.length ? Pin.MIN_PIN : rolls[roll + 1];
+
+            bitmaps[frame][FrameResult.of(first, second).ordinal()].add(game);
+            roll += first == Pin.MAX_PIN ? 1 : 2;
+        }
+        size = Math.max(size, game + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public CompressedBitmap get(final int frameNumber, final FrameResult result) {
+        return bitmap(frameNumber, result).copy();
+    }
+
+    private CompressedBitmap bitmap(final int frameNumber, final FrameResult result) {
+        return bitmaps[validate(frameNumber) - MIN_FRAME_NUMBER][result.ordinal()];
+    }
+
+    public CompressedBitmap open(final int frameNumber) {
+        return bitmap(frameNumber, FrameResult.MISS).or(bitmap(frameNumber, FrameResult.GUTTER));
+    }
+
+    public CompressedBitmap strikes(final int fromFrame, final int toFrame) {
+        CompressedBitmap games = get(fromFrame, FrameResult.STRIKE);
+
+        for (int frame = fromFrame + 1; frame <= toFrame; frame++) {
+            games = games.and(bitmap(frame, FrameResult.STRIKE));
+        }
+        return games;
+    }
+
+    public CompressedBitmap turkey(final int fromFrame) {
+        return strikes(fromFrame, fromFrame + TURKEY_FRAMES - 1);
+    }
+
+    private static int validate(final int frameNumber) {
+        if (frameNumber < MIN_FRAME_NUMBER || frameNumber > Frame.MAX_FRAME_NUMBER) {
+            throw new BowlingException(FRAME_NUMBER_ERR_MESSAGE);
+        }
+        return frameNumber;
+    }
+}
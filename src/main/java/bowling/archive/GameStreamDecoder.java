@@ -0,0 +1,164 @@
+package bowling.archive;
+
+import bowling.domain.pin.Pin;
+import bowling.domain.score.PackedGameScorer;
+import bowling.exception.BowlingException;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+
+import static bowling.archive.GameStreamFormat.MAGIC;
+import static bowling.archive.GameStreamFormat.MIN_RUN;
+import static bowling.archive.GameStreamFormat.NIBBLE_BITS;
+import static bowling.archive.GameStreamFormat.NIBBLE_MASK;
+import static bowling.archive.GameStreamFormat.STRIKE_RUN;
+import static bowling.archive.GameStreamFormat.TRAILER_BYTES;
+import static bowling.archive.GameStreamFormat.VARINT_BITS;
+import static bowling.archive.GameStreamFormat.VARINT_MASK;
+import static bowling.archive.GameStreamFormat.VARINT_MORE;
+import static bowling.archive.GameStreamFormat.unzigzag;
+
+/**
+ * GameStreamFormat 으로 압축된 스트림을 게임 단위로 푼다. 투구는 IntConsumer 로 하나씩 넘기므로
+ * BowlingGame::play 에 바로 연결할 수 있고, nextScore 는 투구를 long 두개에 모아 PackedGameScorer 로 계산한다.
+ * seek 는 블록 색인으로 해당 블록 처음으로 간 뒤 블록 안에서만 건너뛴다.
+ */
+public class GameStreamDecoder {
+
+    private static final String FORMAT_ERR_MESSAGE = "압축 게임 스트림 형식이 아닙니다.";
+    private static final String NO_GAME_ERR_MESSAGE = "더 읽을 게임이 없습니다.";
+    private static final int LOW_NIBBLES = 16;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int blockGames;
+    private final int indexOffset;
+    private int position;
+    private int game;
+    private long playerKey;
+    private int rollCount;
+    private final IntConsumer collector = this::collect;
+    private int current;
+    private boolean upperNibble;
+    private long low;
+    private long high;
+    private int collected;
+
+    public GameStreamDecoder(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        int trailer = buffer.limit() - TRAILER_BYTES;
+        if (trailer < 0 || buffer.getInt(trailer + 3 * Integer.BYTES) != MAGIC) {
+            throw new BowlingException(FORMAT_ERR_MESSAGE);
+        }
+
+        this.size = buffer.getInt(trailer);
+        this.blockGames = buffer.getInt(trailer + Integer.BYTES);
+        this.indexOffset = trailer - buffer.getInt(trailer + 2 * Integer.BYTES) * Integer.BYTES;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasNext() {
+        return game < size;
+    }
+
+    public long getPlayerKey() {
+        return playerKey;
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    public void seek(final int target) {
+        if (target < 0 || target > size) {
+            throw new BowlingException(NO_GAME_ERR_MESSAGE);
+        }
+
+        int block = Math.min(target / blockGames, (size - 1) / blockGames);
+        game = block * blockGames;
+        position = size == 0 ? 0 : buffer.getInt(indexOffset + block * Integer.BYTES);
+        playerKey = 0;
+
+        while (game < target) {
+            next(pins -> {
+            });
+        }
+    }
+
+    public int next(final IntConsumer rolls) {
+        if (!hasNext()) {
+            throw new BowlingException(NO_GAME_ERR_MESSAGE);
+        }
+        if (game % blockGames == 0) {
+            playerKey = 0;
+        }
+
+        playerKey += unzigzag(readVarLong());
+        rollCount = (int) readVarLong();
+
+        int decoded = 0;
+        upperNibble = false;
+        while (decoded < rollCount) {
+            int nibble = readNibble();
+
+            if (nibble < STRIKE_RUN) {
+                rolls.accept(nibble);
+                decoded++;
+                continue;
+            }
+
+            int pins = nibble == STRIKE_RUN ? Pin.MAX_PIN : Pin.MIN_PIN;
+            int run = readNibble() + MIN_RUN;
+            for (int i = 0; i < run; i++) {
+                rolls.accept(pins);
+            }
+            decoded += run;
+        }
+
+        game++;
+        return rollCount;
+    }
+
+    public int nextScore() {
+        low = 0;
+        high = 0;
+        collected = 0;
+        next(collector);
+        return PackedGameScorer.score(low, high);
+    }
+
+    private void collect(final int pins) {
+        if (collected < LOW_NIBBLES) {
+            low |= (long) pins << (collected * NIBBLE_BITS);
+        } else {
+            high |= (long) pins << ((collected - LOW_NIBBLES) * NIBBLE_BITS);
+        }
+        collected++;
+    }
+
+    private int readNibble() {
+        if (upperNibble) {
+            upperNibble = false;
+            return current >>> NIBBLE_BITS & NIBBLE_MASK;
+        }
+
+        current = buffer.get(position++);
+        upperNibble = true;
+        return current & NIBBLE_MASK;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+
+        for (int shift = 0; ; shift += VARINT_BITS) {
+            int b = buffer.get(position++);
+            value |= (long) (b & VARINT_MASK) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package bowling.archive;
+
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.RollValidator;
+import bowling.exception.BowlingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static bowling.archive.GameStreamFormat.DEFAULT_BLOCK_GAMES;
+import static bowling.archive.GameStreamFormat.GUTTER_RUN;
+import static bowling.archive.GameStreamFormat.MAGIC;
+import static bowling.archive.GameStreamFormat.MAX_RUN;
+import static bowling.archive.GameStreamFormat.MIN_RUN;
+import static bowling.archive.GameStreamFormat.NIBBLE_BITS;
+import static bowling.archive.GameStreamFormat.STRIKE_RUN;
+import static bowling.archive.GameStreamFormat.VARINT_BITS;
+import static bowling.archive.GameStreamFormat.VARINT_MASK;
+import static bowling.archive.GameStreamFormat.VARINT_MORE;
+import static bowling.archive.GameStreamFormat.zigzag;
+
+/**
+ * 완료된 게임을 GameStreamFormat 으로 압축해 스트림에 이어 쓴다. 블록 하나를 메모리에 모았다가 한번에 쓰고,
+ * close 할 때 블록 위치 색인과 trailer 를 붙인다.
+ */
+public class GameStreamEncoder implements Closeable {
+
+    private static final String BLOCK_GAMES_ERR_MESSAGE = "블록에는 1개 이상의 게임이 필요합니다.";
+    private static final int INITIAL_BLOCK_BYTES = 4096;
+
+    private final OutputStream out;
+    private final int blockGames;
+    private byte[] block = new byte[INITIAL_BLOCK_BYTES];
+    private int position;
+    private int halfByte = -1;
+    private int[] blockOffsets = new int[16];
+    private int blockCount;
+    private int written;
+    private int games;
+    private long previousKey;
+
+    public GameStreamEncoder(final OutputStream out) {
+        this(out, DEFAULT_BLOCK_GAMES);
+    }
+
+    public GameStreamEncoder(final OutputStream out, final int blockGames) {
+        if (blockGames < 1) {
+            throw new BowlingException(BLOCK_GAMES_ERR_MESSAGE);
+        }
+        this.out = out;
+        this.blockGames = blockGames;
+    }
+
+    public void append(final long playerKey, final byte[] rolls) throws IOException {
+        int validation = RollValidator.validate(rolls);
+        if (!RollValidator.isValid(validation)) {
+            throw new BowlingException(RollValidator.messageOf(validation));
+        }
+
+        if (games % blockGames == 0) {
+            startBlock();
+        }
+
+        writeVarLong(zigzag(playerKey - previousKey));
+        writeVarLong(rolls.length);
+        writeRolls(rolls);
+        previousKey = playerKey;
+        games++;
+
+        if (games % blockGames == 0) {
+            flushBlock();
+        }
+    }
+
+    private void startBlock() {
+        if (blockCount == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+        }
+        blockOffsets[blockCount++] = written + position;
+        previousKey = 0;
+    }
+
+    private void writeRolls(final byte[] rolls) {
+        for (int i = 0; i < rolls.length; ) {
+            int pins = rolls[i];
+            int run = 1;
+
+            while (i + run < rolls.length && rolls[i + run] == pins && run < MAX_RUN) {
+                run++;
+            }
+
+            if (run >= MIN_RUN && (pins == Pin.MAX_PIN || pins == Pin.MIN_PIN)) {
+                writeNibble(pins == Pin.MAX_PIN ? STRIKE_RUN : GUTTER_RUN);
+                writeNibble(run - MIN_RUN);
+                i += run;
+                continue;
+            }
+
+            writeNibble(pins);
+            i++;
+        }
+        halfByte = -1;
+    }
+
+    private void writeNibble(final int nibble) {
+        if (halfByte < 0) {
+            halfByte = position;
+            writeByte(nibble);
+            return;
+        }
+        block[halfByte] |= nibble << NIBBLE_BITS;
+        halfByte = -1;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~VARINT_MASK) != 0) {
+            writeByte((int) (value & VARINT_MASK) | VARINT_MORE);
+            value >>>= VARINT_BITS;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(final int value) {
+        if (position == block.length) {
+            block = Arrays.copyOf(block, position * 2);
+        }
+        block[position++] = (byte) value;
+    }
+
+    private void flushBlock() throws IOException {
+        out.write(block, 0, position);
+        written += position;
+        position = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBlock();
+
+        for (int i = 0; i < blockCount; i++) {
+            writeInt(blockOffsets[i]);
+        }
+        writeInt(games);
+        writeInt(blockGames);
+        writeInt(blockCount);
+        writeInt(MAGIC);
+        flushBlock();
+        out.close();
+    }
+
+    private void writeInt(final int value) {
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            writeByte(value >>> shift);
+        }
+    }
+}
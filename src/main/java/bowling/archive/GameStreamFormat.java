@@ -0,0 +1,34 @@
+package bowling.archive;
+
+/**
+ * 압축 게임 스트림의 배치. 게임은 블록 단위로 모이며 블록마다 선수 key 의 delta 를 0 부터 다시 시작하므로
+ * 블록 하나만 따로 풀 수 있다. 게임 하나는 zigzag varint 선수 key delta, 투구 수, 투구 nibble 순서이며
+ * 투구 nibble 은 0~10 이 핀 수, STRIKE_RUN/GUTTER_RUN 다음 nibble 이 (반복 횟수 - MIN_RUN) 이다.
+ * 스트림 끝에는 블록 시작 위치 int 배열과 고정 크기 trailer(게임 수, 블록 크기, 블록 수, MAGIC)가 붙는다.
+ */
+final class GameStreamFormat {
+
+    static final int MAGIC = 0x42474D53;
+    static final int TRAILER_BYTES = 4 * Integer.BYTES;
+    static final int DEFAULT_BLOCK_GAMES = 1024;
+    static final int STRIKE_RUN = 11;
+    static final int GUTTER_RUN = 12;
+    static final int MIN_RUN = 3;
+    static final int MAX_RUN = MIN_RUN + 15;
+    static final int NIBBLE_BITS = 4;
+    static final int NIBBLE_MASK = 0x0F;
+    static final int VARINT_BITS = 7;
+    static final int VARINT_MASK = 0x7F;
+    static final int VARINT_MORE = 0x80;
+
+    private GameStreamFormat() {
+    }
+
+    static long zigzag(final long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
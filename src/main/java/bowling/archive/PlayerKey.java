@@ -0,0 +1,38 @@
+package bowling.archive;
+
+import bowling.exception.BowlingException;
+
+/**
+ * 3글자 이름의 각 char(16bit)를 그대로 이어 붙여 long 하나로 만든다. 되돌릴 수 있으므로 충돌이 없다.
+ */
+public class PlayerKey {
+
+    private static final String PLAYER_NAME_LENGTH_ERR_MESSAGE = "이름은 3글자만 가능 합니다.";
+    private static final int NAME_LENGTH = 3;
+    private static final int CHAR_BITS = Character.SIZE;
+    private static final long CHAR_MASK = 0xFFFF;
+
+    private PlayerKey() {
+    }
+
+    public static long encode(final String name) {
+        if (name.length() != NAME_LENGTH) {
+            throw new BowlingException(PLAYER_NAME_LENGTH_ERR_MESSAGE);
+        }
+
+        long key = 0;
+        for (int i = 0; i < NAME_LENGTH; i++) {
+            key = key << CHAR_BITS | name.charAt(i);
+        }
+        return key;
+    }
+
+    public static String decode(final long key) {
+        char[] name = new char[NAME_LENGTH];
+
+        for (int i = NAME_LENGTH - 1, shift = 0; i >= 0; i--, shift += CHAR_BITS) {
+            name[i] = (char) (key >>> shift & CHAR_MASK);
+        }
+        return new String(name);
+    }
+}
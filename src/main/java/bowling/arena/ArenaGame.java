@@ -0,0 +1,46 @@
+package bowling.arena;
+
+import bowling.domain.Game;
+
+/**
+ * GameArena 의 slot 하나를 Game 으로 보이게 하는 flyweight. moveTo 로 다른 slot 을 가리키게 해서 재사용한다.
+ */
+public class ArenaGame implements Game {
+
+    private final GameArena arena;
+    private int slot;
+
+    ArenaGame(final GameArena arena, final int slot) {
+        this.arena = arena;
+        this.slot = slot;
+    }
+
+    public ArenaGame moveTo(final int slot) {
+        this.slot = slot;
+        return this;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public void play(final int pinCount) {
+        arena.play(slot, pinCount);
+    }
+
+    @Override
+    public String getPlayerName() {
+        return arena.getPlayerName(slot);
+    }
+
+    @Override
+    public boolean isFinish() {
+        return arena.isFinish(slot);
+    }
+
+    @Override
+    public int totalScore(final int frameNumber) {
+        return arena.totalScore(slot, frameNumber);
+    }
+}
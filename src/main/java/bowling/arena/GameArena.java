@@ -0,0 +1,245 @@
+package bowling.arena;
+
+import bowling.domain.PlayerRegistry;
+import bowling.domain.frame.Frame;
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.RollState;
+import bowling.exception.BowlingException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게임 하나를 direct ByteBuffer 안의 고정 크기 slot 으로 둔다. heap 에는 이 객체와 버퍼, slot 당 1bit 의 사용 표시만 남는다.
+ * slot : 진행 상태(RollState) 4 | 플레이어 key 4 | 투구 수 1 | nibble 투구 11 | 프레임별 누적 점수 short 10 개 | 여유
+ * 빈 slot 은 tag 를 붙인 Treiber stack 으로 재사용하고, 한 slot 은 한번에 한 스레드만 변경한다.
+ * 사용 표시는 CAS 로 바꾸므로 같은 slot 을 두번 반환하면 free list 에 중복으로 들어가기 전에 거부된다.
+ */
+public class GameArena {
+
+    public static final int SLOT_SIZE = 48;
+
+    private static final String ARENA_FULL_MESSAGE = "더 이상 게임을 만들 수 없습니다.";
+    private static final String SLOT_RANGE_MESSAGE = "존재하지 않는 게임 slot 입니다.";
+    private static final String DOUBLE_FREE_MESSAGE = "이미 반환된 게임 slot 입니다.";
+    private static final int STATE = 0;
+    private static final int NEXT_FREE = STATE;
+    private static final int PLAYER_KEY = 4;
+    private static final int ROLL_COUNT = 8;
+    private static final int ROLLS = 9;
+    private static final int TOTALS = 20;
+    private static final int LAST_FRAME_INDEX = Frame.MAX_FRAME_NUMBER - 1;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+    private static final int NO_SLOT = -1;
+    private static final long SLOT_MASK = 0xFFFFFFFFL;
+    private static final int TAG_SHIFT = 32;
+    private static final int USED_SHIFT = 6;
+    private static final int USED_MASK = Long.SIZE - 1;
+
+    private final ByteBuffer memory;
+    private final int capacity;
+    private final PlayerRegistry playerRegistry;
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicLong freeHead = new AtomicLong();
+    private final AtomicLongArray used;
+
+    public GameArena(final int capacity, final PlayerRegistry playerRegistry) {
+        this.memory = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, SLOT_SIZE)).order(ByteOrder.nativeOrder());
+        this.capacity = capacity;
+        this.playerRegistry = playerRegistry;
+        this.used = new AtomicLongArray((capacity + USED_MASK) >>> USED_SHIFT);
+    }
+
+    public int allocate(final String playerName) {
+        int playerKey = playerRegistry.keyOf(playerName);
+        int slot = popFree();
+
+        if (slot == NO_SLOT) {
+            slot = bump();
+        }
+
+        int offset = offset(slot);
+        for (int i = 0; i < SLOT_SIZE; i += Long.BYTES) {
+            memory.putLong(offset + i, 0L);
+        }
+        memory.putInt(offset + STATE, RollState.INITIAL);
+        memory.putInt(offset + PLAYER_KEY, playerKey);
+        markUsed(slot);
+        live.incrementAndGet();
+        return slot;
+    }
+
+    private int bump() {
+        while (true) {
+            int slot = allocated.get();
+            if (slot >= capacity) {
+                int freed = popFree();
+                if (freed != NO_SLOT) {
+                    return freed;
+                }
+                throw new BowlingException(ARENA_FULL_MESSAGE);
+            }
+            if (allocated.compareAndSet(slot, slot + 1)) {
+                return slot;
+            }
+        }
+    }
+
+    private int popFree() {
+        while (true) {
+            long head = freeHead.get();
+            int top = (int) head - 1;
+            if (top == NO_SLOT) {
+                return NO_SLOT;
+            }
+
+            int next = memory.getInt(offset(top) + NEXT_FREE);
+            if (freeHead.compareAndSet(head, nextHead(head, next))) {
+                return top;
+            }
+        }
+    }
+
+    public void free(final int slot) {
+        if (slot < 0 || slot >= capacity) {
+            throw new BowlingException(SLOT_RANGE_MESSAGE);
+        }
+        markFree(slot);
+        int offset = offset(slot);
+
+        while (true) {
+            long head = freeHead.get();
+            memory.putInt(offset + NEXT_FREE, (int) head - 1);
+            if (freeHead.compareAndSet(head, nextHead(head, slot))) {
+                live.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void markUsed(final int slot) {
+        int index = slot >>> USED_SHIFT;
+        long bit = 1L << (slot & USED_MASK);
+
+        while (true) {
+            long word = used.get(index);
+            if (used.compareAndSet(index, word, word | bit)) {
+                return;
+            }
+        }
+    }
+
+    private void markFree(final int slot) {
+        int index = slot >>> USED_SHIFT;
+        long bit = 1L << (slot & USED_MASK);
+
+        while (true) {
+            long word = used.get(index);
+            if ((word & bit) == 0) {
+                throw new BowlingException(DOUBLE_FREE_MESSAGE);
+            }
+            if (used.compareAndSet(index, word, word & ~bit)) {
+                return;
+            }
+        }
+    }
+
+    private static long nextHead(final long head, final int slot) {
+        return ((head >>> TAG_SHIFT) + 1) << TAG_SHIFT | (slot + 1) & SLOT_MASK;
+    }
+
+    private static int offset(final int slot) {
+        return slot * SLOT_SIZE;
+    }
+
+    public void play(final int slot, final int pinCount) {
+        int offset = offset(slot);
+        int state = RollState.next(memory.getInt(offset + STATE), pinCount);
+        int count = memory.get(offset + ROLL_COUNT);
+        int rollByte = offset + ROLLS + (count >> 1);
+
+        memory.put(rollByte, (byte) (memory.get(rollByte) | pinCount << ((count & 1) * NIBBLE_BITS)));
+        memory.put(offset + ROLL_COUNT, (byte) (count + 1));
+        memory.putInt(offset + STATE, state);
+        updateTotals(offset, count + 1);
+    }
+
+    private void updateTotals(final int offset, final int count) {
+        int total = 0;
+        int roll = 0;
+
+        for (int frame = 0; frame < Frame.MAX_FRAME_NUMBER; frame++) {
+            if (roll < count) {
+                int first = roll(offset, roll, count);
+
+                if (frame == LAST_FRAME_INDEX) {
+                    total += first + roll(offset, roll + 1, count) + roll(offset, roll + 2, count);
+                } else if (first == Pin.MAX_PIN) {
+                    total += Pin.MAX_PIN + roll(offset, roll + 1, count) + roll(offset, roll + 2, count);
+                    roll++;
+                } else {
+                    int frameScore = first + roll(offset, roll + 1, count);
+                    if (frameScore == Pin.MAX_PIN) {
+                        frameScore += roll(offset, roll + 2, count);
+                    }
+                    total += frameScore;
+                    roll += 2;
+                }
+            }
+            memory.putShort(offset + TOTALS + frame * Short.BYTES, (short) total);
+        }
+    }
+
+    private int roll(final int offset, final int index, final int count) {
+        if (index >= count) {
+            return 0;
+        }
+        return memory.get(offset + ROLLS + (index >> 1)) >> ((index & 1) * NIBBLE_BITS) & NIBBLE_MASK;
+    }
+
+    public int getState(final int slot) {
+        return memory.getInt(offset(slot) + STATE);
+    }
+
+    public boolean isFinish(final int slot) {
+        return RollState.isFinish(getState(slot));
+    }
+
+    public int getPlayerKey(final int slot) {
+        return memory.getInt(offset(slot) + PLAYER_KEY);
+    }
+
+    public String getPlayerName(final int slot) {
+        return playerRegistry.nameOf(getPlayerKey(slot));
+    }
+
+    public int getRollCount(final int slot) {
+        return memory.get(offset(slot) + ROLL_COUNT);
+    }
+
+    public int getRoll(final int slot, final int index) {
+        int offset = offset(slot);
+        return roll(offset, index, memory.get(offset + ROLL_COUNT));
+    }
+
+    public int totalScore(final int slot, final int frameNumber) {
+        return memory.getShort(offset(slot) + TOTALS + (frameNumber - 1) * Short.BYTES);
+    }
+
+    public ArenaGame cursor(final int slot) {
+        return new ArenaGame(this, slot);
+    }
+
+    public int liveCount() {
+        return live.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,383 @@
+package bowling.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 0 이상의 int 집합을 상위 16 bit 마다 하나의 container 로 나누어 담는 roaring 방식의 bitmap.
+ * container 는 값이 4096 개 이하면 정렬된 char 배열, 넘으면 1024 개 long 의 bitmap 이므로
+ * 드문 집합과 빽빽한 집합 모두 작게 담기고, and/or/andNot 은 같은 key 의 container 끼리만 계산한다.
+ */
+public class CompressedBitmap {
+
+    private static final String NEGATIVE_VALUE_MESSAGE = "값은 0 이상 이어야 합니다.";
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_MASK = 0xFFFF;
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORD_BITS = 6;
+    private static final int WORDS = 1 << (CHUNK_BITS - WORD_BITS);
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private int[] keys;
+    private Container[] containers;
+    private int size;
+
+    public CompressedBitmap() {
+        this(new int[DEFAULT_CAPACITY], new Container[DEFAULT_CAPACITY], 0);
+    }
+
+    private CompressedBitmap(final int[] keys, final Container[] containers, final int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static CompressedBitmap of(final int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public CompressedBitmap copy() {
+        Container[] copied = new Container[containers.length];
+        for (int i = 0; i < size; i++) {
+            copied[i] = containers[i].copy();
+        }
+        return new CompressedBitmap(Arrays.copyOf(keys, keys.length), copied, size);
+    }
+
+    private int indexOf(final int key) {
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    public void add(final int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(NEGATIVE_VALUE_MESSAGE);
+        }
+
+        int key = value >>> CHUNK_BITS;
+        int index = indexOf(key);
+
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, key, new ArrayContainer());
+        }
+        containers[index] = containers[index].add((char) (value & LOW_MASK));
+    }
+
+    private void insert(final int index, final int key, final Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void append(final int key, final Container container) {
+        if (container.cardinality() != 0) {
+            insert(size, key, container);
+        }
+    }
+
+    public boolean contains(final int value) {
+        if (value < 0) {
+            return false;
+        }
+
+        int index = indexOf(value >>> CHUNK_BITS);
+        return index >= 0 && containers[index].contains((char) (value & LOW_MASK));
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public CompressedBitmap and(final CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+
+        for (int i = 0, j = 0; i < size && j < other.size; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i++].and(other.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public CompressedBitmap or(final CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i++].copy());
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j++].copy());
+            } else {
+                result.append(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public CompressedBitmap andNot(final CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+
+        for (int i = 0, j = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.append(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    public void forEach(final IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << CHUNK_BITS, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] count = new int[1];
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract long[] words();
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        Container and(final Container other) {
+            long[] words = words();
+            long[] otherWords = other.words();
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return compact(words);
+        }
+
+        Container or(final Container other) {
+            long[] words = words();
+            long[] otherWords = other.words();
+            for (int i = 0; i < WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+            return compact(words);
+        }
+
+        Container andNot(final Container other) {
+            long[] words = words();
+            long[] otherWords = other.words();
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return compact(words);
+        }
+
+        static Container compact(final long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[count++] = (char) (i << WORD_BITS | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+
+    private static class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[DEFAULT_CAPACITY], 0);
+        }
+
+        ArrayContainer(final char[] values, final int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(final char value) {
+            if (cardinality > 0 && values[cardinality - 1] < value) {
+                return insert(cardinality, value);
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            return insert(-index - 1, value);
+        }
+
+        private Container insert(final int index, final char value) {
+            if (cardinality == ARRAY_MAX) {
+                return new BitmapContainer(words(), cardinality).add(value);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long[] words() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> WORD_BITS] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        Container and(final Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return super.and(other);
+            }
+
+            ArrayContainer array = (ArrayContainer) other;
+            char[] result = new char[Math.min(cardinality, array.cardinality)];
+            int count = 0;
+
+            for (int i = 0, j = 0; i < cardinality && j < array.cardinality; ) {
+                if (values[i] < array.values[j]) {
+                    i++;
+                } else if (values[i] > array.values[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        void forEach(final int high, final IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+    }
+
+    private static class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(final long[] words, final int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(final char value) {
+            long bit = 1L << value;
+            int index = value >>> WORD_BITS;
+
+            if ((words[index] & bit) == 0) {
+                words[index] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return (words[value >>> WORD_BITS] & 1L << value) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long[] words() {
+            return words.clone();
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(final int high, final IntConsumer action) {
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(high | i << WORD_BITS | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+    }
+}
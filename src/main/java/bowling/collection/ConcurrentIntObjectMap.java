@@ -0,0 +1,140 @@
+package bowling.collection;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * 0 이상의 int key 를 쓰는 추가 전용 open addressing map. 조회는 락 없이 boxing 없이 배열만 읽고,
+ * 드물게 일어나는 추가와 확장만 동기화한다. 값을 먼저 쓰고 key 를 나중에 공개하므로 key 가 보이면 값도 보인다.
+ */
+public class ConcurrentIntObjectMap<V> {
+
+    private static final String NEGATIVE_KEY_MESSAGE = "key 는 0 이상 이어야 합니다.";
+    private static final int EMPTY = 0;
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private volatile Table<V> table;
+    private volatile int size;
+
+    public ConcurrentIntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentIntObjectMap(final int expectedSize) {
+        this.table = new Table<>(tableSizeFor(expectedSize * 2));
+    }
+
+    private static int tableSizeFor(final int capacity) {
+        return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+    }
+
+    private static int slotKey(final int key) {
+        if (key < 0 || key == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(NEGATIVE_KEY_MESSAGE);
+        }
+        return key + 1;
+    }
+
+    public V get(final int key) {
+        return table.get(slotKey(key));
+    }
+
+    public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction) {
+        V value = get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        synchronized (this) {
+            int slotKey = slotKey(key);
+            value = table.get(slotKey);
+            if (value != null) {
+                return value;
+            }
+
+            value = mappingFunction.apply(key);
+            if (size + 1 > table.capacity() >> 1) {
+                table = table.resize();
+            }
+            table.insert(slotKey, value);
+            size++;
+            return value;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(final IntObjectConsumer<? super V> consumer) {
+        table.forEach(consumer);
+    }
+
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private static final class Table<V> {
+
+        private final AtomicIntegerArray keys;
+        private final AtomicReferenceArray<V> values;
+        private final int mask;
+
+        Table(final int capacity) {
+            this.keys = new AtomicIntegerArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        V get(final int slotKey) {
+            for (int index = slotKey * HASH_MULTIPLIER & mask; ; index = index + 1 & mask) {
+                int current = keys.get(index);
+                if (current == slotKey) {
+                    return values.get(index);
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+            }
+        }
+
+        void insert(final int slotKey, final V value) {
+            int index = slotKey * HASH_MULTIPLIER & mask;
+
+            while (keys.get(index) != EMPTY) {
+                index = index + 1 & mask;
+            }
+
+            values.set(index, value);
+            keys.set(index, slotKey);
+        }
+
+        Table<V> resize() {
+            Table<V> resized = new Table<>(capacity() << 1);
+
+            for (int index = 0; index < capacity(); index++) {
+                int slotKey = keys.get(index);
+                if (slotKey != EMPTY) {
+                    resized.insert(slotKey, values.get(index));
+                }
+            }
+            return resized;
+        }
+
+        void forEach(final IntObjectConsumer<? super V> consumer) {
+            for (int index = 0; index < capacity(); index++) {
+                int slotKey = keys.get(index);
+                if (slotKey != EMPTY) {
+                    consumer.accept(slotKey - 1, values.get(index));
+                }
+            }
+        }
+    }
+}
@@ -1,37 +1,131 @@
 package bowling.domain;
 
 import bowling.domain.frame.Frame;
+import bowling.domain.frame.FrameResult;
 import bowling.domain.frame.NormalFrame;
+import bowling.domain.pin.Pins;
 import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
 
-public class BowlingGame {
+import java.util.Arrays;
+import java.util.List;
+
+public class BowlingGame implements Game {
+
+    private static final String LISTENER_AFTER_START_MESSAGE = "리스너는 첫 투구 전에만 등록할 수 있습니다.";
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
 
     private final Player player;
     private final Frame firstFrame;
+    private GameEventListener[] listeners = NO_LISTENERS;
+    private int completedFrames;
+    private int settledFrames;
+    private int settledScore;
+    private Frame settledFrame;
+    private boolean started;
 
     public BowlingGame(final Player player) {
         this.player = player;
         this.firstFrame = new NormalFrame();
     }
 
+    public BowlingGame(final Player player, final GameEventListener listener) {
+        this(player);
+        addListener(listener);
+    }
+
+    public void addListener(final GameEventListener listener) {
+        if (started) {
+            throw new BowlingException(LISTENER_AFTER_START_MESSAGE);
+        }
+
+        GameEventListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = listener;
+        listeners = added;
+    }
+
     private Frame findLastFrame() {
         return firstFrame.findLast();
     }
 
-    public void play(final int pinCount) {
+    private Frame findPlayingFrame() {
         Frame last = findLastFrame();
 
         if (last.isFinish()) {
             last.createNext();
         }
 
-        last.findLast().bowl(pinCount);
+        return last.findLast();
+    }
+
+    @Override
+    public void play(final int pinCount) {
+        Frame current = findPlayingFrame();
+        current.bowl(pinCount);
+        started = true;
+
+        if (listeners.length != 0) {
+            publish(current, pinCount);
+        }
+    }
+
+    public int playMask(final int standingMask) {
+        Frame current = findPlayingFrame();
+        current.bowlMask(standingMask);
+        started = true;
+
+        List<Pins> pins = current.getPins();
+        Pins last = pins.get(pins.size() - 1) == null ? pins.get(0) : pins.get(pins.size() - 1);
+        int pinCount = last.getLastDownPin();
+
+        if (listeners.length != 0) {
+            publish(current, pinCount);
+        }
+        return pinCount;
     }
 
+    private void publish(final Frame current, final int pinCount) {
+        for (GameEventListener listener : listeners) {
+            listener.onRollApplied(completedFrames + 1, pinCount);
+        }
+
+        if (current.isFinish()) {
+            FrameResult result = FrameResult.of(current);
+            completedFrames++;
+            for (GameEventListener listener : listeners) {
+                listener.onFrameCompleted(completedFrames, result);
+            }
+        }
+
+        boolean finish = current.isEnd();
+        while (settledFrames < completedFrames) {
+            Frame frame = settledFrame == null ? firstFrame : settledFrame.getNext();
+            int score = frame.currentScore();
+            if (Score.canAddNextScore(score) && !finish) {
+                break;
+            }
+
+            settledScore += Score.scoreOf(score);
+            settledFrames++;
+            settledFrame = frame;
+            for (GameEventListener listener : listeners) {
+                listener.onFrameScoreSettled(settledFrames, settledScore);
+            }
+        }
+
+        if (finish) {
+            for (GameEventListener listener : listeners) {
+                listener.onGameFinished(settledScore);
+            }
+        }
+    }
+
+    @Override
     public String getPlayerName() {
         return player.getName();
     }
 
+    @Override
     public boolean isFinish() {
         return findLastFrame().isEnd();
     }
@@ -63,4 +157,9 @@ public class BowlingGame {
     public Score getTotalScore(int frameNumber) {
         return firstFrame.getTotalScore(frameNumber);
     }
+
+    @Override
+    public int totalScore(int frameNumber) {
+        return Score.scoreOf(firstFrame.totalScore(frameNumber));
+    }
 }
@@ -0,0 +1,12 @@
+package bowling.domain;
+
+public interface Game {
+
+    void play(int pinCount);
+
+    String getPlayerName();
+
+    boolean isFinish();
+
+    int totalScore(int frameNumber);
+}
@@ -0,0 +1,22 @@
+package bowling.domain;
+
+import bowling.domain.frame.FrameResult;
+
+/**
+ * BowlingGame 이 투구마다 바뀐 것만 알려주는 이벤트. 값은 모두 int 와 enum 으로 넘기므로 알림에 객체를 만들지 않는다.
+ * 한 투구의 이벤트는 투구 반영, 프레임 종료, 점수 확정, 게임 종료 순서로 온다.
+ */
+public interface GameEventListener {
+
+    default void onRollApplied(int frameNumber, int pinCount) {
+    }
+
+    default void onFrameCompleted(int frameNumber, FrameResult result) {
+    }
+
+    default void onFrameScoreSettled(int frameNumber, int totalScore) {
+    }
+
+    default void onGameFinished(int totalScore) {
+    }
+}
@@ -0,0 +1,115 @@
+package bowling.domain;
+
+import bowling.collection.ConcurrentIntObjectMap;
+import bowling.exception.BowlingException;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 3글자 이름을 int key 로 바꾸고 key 마다 Player 하나만 만든다. ASCII 이름은 글자마다 8bit 씩 이어 붙여
+ * 계산만으로 key 를 구하고, 그 외의 이름은 처음 본 순서대로 ASCII 범위 밖의 key 를 붙인다.
+ * key 를 새로 붙이는 keyOf 는 게임을 기록할 때만 쓰고, 조회는 등록하지 않는 findKey 를 쓴다.
+ */
+public class PlayerRegistry {
+
+    private static final String PLAYER_NAME_LENGTH_ERR_MESSAGE = "이름은 3글자만 가능 합니다.";
+    private static final String UNKNOWN_KEY_MESSAGE = "등록되지 않은 플레이어 key 입니다.";
+    private static final int NAME_LENGTH = 3;
+    private static final int CHAR_BITS = 8;
+    private static final int ASCII_LIMIT = 0x80;
+    private static final int CHAR_MASK = 0xFF;
+    private static final int FALLBACK_BASE = 1 << (CHAR_BITS * NAME_LENGTH);
+    private static final int NOT_ASCII = -1;
+
+    private final ConcurrentIntObjectMap<Player> players = new ConcurrentIntObjectMap<>();
+    private final ConcurrentMap<String, Integer> fallbackKeys = new ConcurrentHashMap<>();
+    private final AtomicInteger nextFallbackKey = new AtomicInteger(FALLBACK_BASE);
+
+    public int keyOf(final String name) {
+        int key = asciiKeyOf(name);
+
+        if (key == NOT_ASCII) {
+            return fallbackKeyOf(name);
+        }
+        return key;
+    }
+
+    public OptionalInt findKey(final String name) {
+        int key = asciiKeyOf(name);
+
+        if (key != NOT_ASCII) {
+            return OptionalInt.of(key);
+        }
+
+        Integer fallbackKey = fallbackKeys.get(name);
+        return fallbackKey == null ? OptionalInt.empty() : OptionalInt.of(fallbackKey);
+    }
+
+    private static int asciiKeyOf(final String name) {
+        if (name.length() != NAME_LENGTH) {
+            throw new BowlingException(PLAYER_NAME_LENGTH_ERR_MESSAGE);
+        }
+
+        int key = 0;
+        for (int i = 0; i < NAME_LENGTH; i++) {
+            char c = name.charAt(i);
+            if (c >= ASCII_LIMIT) {
+                return NOT_ASCII;
+            }
+            key = key << CHAR_BITS | c;
+        }
+        return key;
+    }
+
+    private int fallbackKeyOf(final String name) {
+        Integer key = fallbackKeys.get(name);
+
+        if (key != null) {
+            return key;
+        }
+
+        return fallbackKeys.computeIfAbsent(name, it -> {
+            int fallbackKey = nextFallbackKey.getAndIncrement();
+            players.computeIfAbsent(fallbackKey, k -> new Player(name));
+            return fallbackKey;
+        });
+    }
+
+    public Player intern(final String name) {
+        int key = keyOf(name);
+        return players.computeIfAbsent(key, k -> new Player(name));
+    }
+
+    public Player get(final int key) {
+        Player player = players.get(key);
+
+        if (player != null) {
+            return player;
+        }
+
+        if (key >= FALLBACK_BASE) {
+            throw new BowlingException(UNKNOWN_KEY_MESSAGE);
+        }
+        return players.computeIfAbsent(key, k -> new Player(decode(k)));
+    }
+
+    public String nameOf(final int key) {
+        return get(key).getName();
+    }
+
+    private static String decode(final int key) {
+        char[] name = new char[NAME_LENGTH];
+
+        for (int i = NAME_LENGTH - 1, shift = 0; i >= 0; i--, shift += CHAR_BITS) {
+            name[i] = (char) (key >>> shift & CHAR_MASK);
+        }
+        return new String(name);
+    }
+
+    public int size() {
+        return players.size();
+    }
+}
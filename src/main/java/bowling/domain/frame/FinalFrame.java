@@ -30,6 +30,16 @@ public class FinalFrame implements Frame {
         return this;
     }
 
+    @Override
+    public Frame bowlMask(int standingMask) {
+        if (isFinish()) {
+            throw new BowlingException(State.CANT_THROW_BALL);
+        }
+
+        states = states.bowlMask(standingMask);
+        return this;
+    }
+
     @Override
     public boolean isFinish() {
         return states.isFinish();
@@ -79,16 +89,31 @@ public class FinalFrame implements Frame {
         return states.getCurrentScore();
     }
 
+    @Override
+    public int currentScore() {
+        return states.currentScore();
+    }
+
     @Override
     public Score getTotalScore(int frameNumber) {
         return getCurrentScore();
     }
 
+    @Override
+    public int totalScore(int frameNumber) {
+        return currentScore();
+    }
+
     @Override
     public Score getCalculateScore(Score before) {
         return states.getCalculateScore(before);
     }
 
+    @Override
+    public int calculateScore(int before) {
+        return states.calculateScore(before);
+    }
+
     @Override
     public Frame findFrame(int frameNumber) {
         return this;
@@ -12,6 +12,8 @@ public interface Frame {
 
     Frame bowl(final int pinCount);
 
+    Frame bowlMask(final int standingMask);
+
     boolean isFinish();
 
     boolean isEnd();
@@ -26,10 +28,16 @@ public interface Frame {
 
     Score getCurrentScore();
 
+    int currentScore();
+
     Score getTotalScore(int frameNumber);
 
+    int totalScore(int frameNumber);
+
     Score getCalculateScore(Score before);
 
+    int calculateScore(int before);
+
     Frame findFrame(int frameNumber);
 
     List<Pins> getPins();
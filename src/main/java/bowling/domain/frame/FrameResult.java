@@ -0,0 +1,48 @@
+package bowling.domain.frame;
+
+import bowling.domain.pin.Pin;
+import bowling.domain.pin.Pins;
+
+public enum FrameResult {
+    STRIKE, SPARE, MISS, GUTTER;
+
+    public static FrameResult of(final Frame frame) {
+        return of(frame.getPins().get(0));
+    }
+
+    public static FrameResult of(final Pins pins) {
+        if (pins.isStrike()) {
+            return STRIKE;
+        }
+
+        if (pins.isSpare()) {
+            return SPARE;
+        }
+
+        if (pins.isGutter()) {
+            return GUTTER;
+        }
+
+        return MISS;
+    }
+
+    public static FrameResult of(final int firstDownPin, final int secondDownPin) {
+        if (firstDownPin == Pin.MAX_PIN) {
+            return STRIKE;
+        }
+
+        if (firstDownPin + secondDownPin == Pin.MAX_PIN) {
+            return SPARE;
+        }
+
+        if (firstDownPin + secondDownPin == Pin.MIN_PIN) {
+            return GUTTER;
+        }
+
+        return MISS;
+    }
+
+    public boolean isOpen() {
+        return this == MISS || this == GUTTER;
+    }
+}
@@ -50,6 +50,16 @@ public class NormalFrame implements Frame {
         return this;
     }
 
+    @Override
+    public Frame bowlMask(final int standingMask) {
+        if (isFinish()) {
+            throw new BowlingException(State.CANT_THROW_BALL);
+        }
+
+        state = state.bowlMask(standingMask);
+        return this;
+    }
+
     @Override
     public boolean isFinish() {
         return state.isFinish();
@@ -91,12 +101,17 @@ public class NormalFrame implements Frame {
 
     @Override
     public Score getCurrentScore() {
-        Score score = state.getCurrentScore();
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        int score = state.currentScore();
         Frame frame = this;
 
-        while (score.canAddNextScore() && frame.getNext() != null) {
-            frame = nextFrame;
-            score = frame.getCalculateScore(score);
+        while (Score.canAddNextScore(score) && frame.getNext() != null) {
+            frame = frame.getNext();
+            score = frame.calculateScore(score);
         }
 
         return score;
@@ -104,11 +119,24 @@ public class NormalFrame implements Frame {
 
     @Override
     public Score getTotalScore(int frameNumber) {
+        return Score.of(totalScore(frameNumber));
+    }
+
+    @Override
+    public int totalScore(int frameNumber) {
         if (this.frameNumber == frameNumber) {
-            return getCurrentScore();
+            return currentScore();
+        }
+
+        int total = 0;
+        Frame frame = this;
+
+        for (int number = this.frameNumber; number <= frameNumber; number++) {
+            total += Score.scoreOf(frame.currentScore());
+            frame = frame.getNext();
         }
 
-        return new Score(getCurrentScore().getScore() + nextFrame.getTotalScore(frameNumber).getScore());
+        return Score.pack(total, 0);
     }
 
     @Override
@@ -116,6 +144,11 @@ public class NormalFrame implements Frame {
         return state.getCalculateScore(before);
     }
 
+    @Override
+    public int calculateScore(int before) {
+        return state.calculateScore(before);
+    }
+
     @Override
     public Frame findFrame(int frameNumber) {
         if (this.frameNumber == frameNumber) {
@@ -4,25 +4,33 @@ import bowling.domain.pin.Pins;
 import bowling.domain.score.Score;
 import bowling.exception.BowlingException;
 
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * 일반 투구 상태와 보너스 투구 상태 두 칸을 그대로 바꿔가며 쓴다. 투구마다 목록이나 새 객체를 만들지 않는다.
+ */
 public class FinalFrameStates implements State {
 
     private static final int FINAL_STATE_SIZE = 2;
     private static final String FINAL_STATE_SIZE_ERR_MESSAGE = "마지막 프레임은 최대 3번 투구 가능";
+    private static final State READY = new Ready();
 
-    private final LinkedList<State> states;
+    private State normal;
+    private State bonus;
 
     public FinalFrameStates(final LinkedList<State> states) {
         validateStateSize(states);
-        this.states = new LinkedList<>(states);
+        this.normal = states.getFirst();
+
+        if (states.size() == FINAL_STATE_SIZE) {
+            this.bonus = states.getLast();
+        }
     }
 
     public static FinalFrameStates of() {
         LinkedList<State> states = new LinkedList<>();
-        states.add(new Ready());
+        states.add(READY);
         return new FinalFrameStates(states);
     }
 
@@ -33,25 +41,20 @@ public class FinalFrameStates implements State {
     }
 
     public FinalFrameStates addState(final State state) {
-        LinkedList<State> merge = new LinkedList<>(states);
-        merge.add(state);
-        return new FinalFrameStates(merge);
+        if (bonus != null) {
+            throw new BowlingException(FINAL_STATE_SIZE_ERR_MESSAGE);
+        }
+
+        bonus = state;
+        return this;
     }
 
     private boolean isThrowAbleBonus() {
-        if (isNormalTurnStrikeOrSpare() && !isHaveBonus()) {
-            return true;
-        }
-        return false;
+        return isNormalTurnStrikeOrSpare() && !isHaveBonus();
     }
 
     private boolean isNormalTurnStrikeOrSpare() {
-        if (states.getFirst() instanceof Strike
-                || states.getFirst() instanceof Spare) {
-            return true;
-        }
-
-        return false;
+        return normal instanceof Strike || normal instanceof Spare;
     }
 
     private boolean isNormalTurnFirstBowl() {
@@ -59,35 +62,25 @@ public class FinalFrameStates implements State {
             return false;
         }
 
-        if (states.getFirst() instanceof FirstBowl) {
-            return true;
-        }
-
-        return false;
+        return normal instanceof FirstBowl;
     }
 
     private boolean isNormalTurnMissOrGutter() {
-        if (states.getLast() instanceof Miss || states.getLast() instanceof Gutter) {
-            return true;
-        }
-
-        return false;
+        State last = bonus == null ? normal : bonus;
+        return last instanceof Miss || last instanceof Gutter;
     }
 
     public boolean isHaveBonus() {
-        if (states.size() == FINAL_STATE_SIZE && !(states.getLast() instanceof Ready)) {
-            return true;
-        }
-        return false;
+        return bonus != null && !(bonus instanceof Ready);
     }
 
     public Pins getFirstPins() {
-        return states.getFirst().getPins();
+        return normal.getPins();
     }
 
     public Pins getLastPins() {
         if (isHaveBonus()) {
-            return states.getLast().getPins();
+            return bonus.getPins();
         }
         return null;
     }
@@ -99,19 +92,32 @@ public class FinalFrameStates implements State {
         }
 
         if (isNormalTurnStrikeOrSpare()) {
-            State third = new Ready();
-            third = third.bowl(pinCount);
-            return addState(third);
+            bonus = READY.bowl(pinCount);
+            return this;
         }
 
-        State bowl = states.getFirst().bowl(pinCount);
-        LinkedList<State> states = new LinkedList<>(Arrays.asList(bowl));
-        return new FinalFrameStates(states);
+        normal = normal.bowl(pinCount);
+        return this;
+    }
+
+    @Override
+    public FinalFrameStates bowlMask(final int standingMask) {
+        if (isFinish()) {
+            throw new BowlingException(State.CANT_THROW_BALL);
+        }
+
+        if (isNormalTurnStrikeOrSpare()) {
+            bonus = READY.bowlMask(standingMask);
+            return this;
+        }
+
+        normal = normal.bowlMask(standingMask);
+        return this;
     }
 
     @Override
     public boolean isFinish() {
-        if (states.getFirst() instanceof Ready) {
+        if (normal instanceof Ready) {
             return false;
         }
 
@@ -131,31 +137,36 @@ public class FinalFrameStates implements State {
             return true;
         }
 
-        if (states.size() == FINAL_STATE_SIZE) {
-            return false;
-        }
-
-        return true;
+        return bonus == null;
     }
 
     @Override
     public Score getCurrentScore() {
-        Score firstStateScore = states.getFirst().getCurrentScore();
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        int score = normal.getPins().getDownPins();
 
         if (isHaveBonus()) {
-            Score secondStateScore = states.getLast().getCurrentScore();
-            return new Score(firstStateScore.getScore() + secondStateScore.getScore(), 0);
+            score += bonus.getPins().getDownPins();
         }
 
-        return new Score(firstStateScore.getScore(), 0);
+        return Score.pack(score, 0);
     }
 
     @Override
     public Score getCalculateScore(Score before) {
-        before = states.getFirst().getCalculateScore(before);
+        return Score.of(calculateScore(before.toPacked()));
+    }
+
+    @Override
+    public int calculateScore(int before) {
+        before = normal.calculateScore(before);
 
-        if (before.canAddNextScore()) {
-            return states.getLast().getCalculateScore(before);
+        if (Score.canAddNextScore(before) && isHaveBonus()) {
+            return bonus.calculateScore(before);
         }
 
         return before;
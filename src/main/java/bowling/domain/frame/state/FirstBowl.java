@@ -1,18 +1,25 @@
 package bowling.domain.frame.state;
 
 import bowling.domain.pin.Pin;
+import bowling.domain.pin.PinMask;
 import bowling.domain.pin.Pins;
 import bowling.domain.score.Score;
 import bowling.exception.BowlingException;
 
 public class FirstBowl implements State {
 
+    private static final String NO_FIRST_LEAVE_MESSAGE = "첫 투구의 남은 핀 정보가 없습니다.";
+
     private final Pins pins;
 
     public FirstBowl(final Pin firstPin) {
         this.pins = new Pins(firstPin, null);
     }
 
+    public FirstBowl(final Pin firstPin, final int standingMask) {
+        this.pins = new Pins(firstPin, null, PinMask.validate(standingMask));
+    }
+
     private void validatePinCount(int pinCount) {
         if (pinCount > 10) {
             throw new BowlingException(Pin.PINS_COUNT_RANGE);
@@ -36,6 +43,15 @@ public class FirstBowl implements State {
         return new Miss(throwResult);
     }
 
+    @Override
+    public State bowlMask(final int standingMask) {
+        if (!pins.hasFirstLeave()) {
+            throw new BowlingException(NO_FIRST_LEAVE_MESSAGE);
+        }
+
+        return bowl(PinMask.knockedDown(pins.getFirstLeave(), standingMask));
+    }
+
     @Override
     public boolean isFinish() {
         return false;
@@ -43,12 +59,22 @@ public class FirstBowl implements State {
 
     @Override
     public Score getCurrentScore() {
-        return new Score(pins.getFirstDownPin(), 0);
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        return Score.pack(pins.getFirstDownPin(), 0);
     }
 
     @Override
     public Score getCalculateScore(Score before) {
-        return before.addScore(new Score(pins.getFirstDownPin()));
+        return Score.of(calculateScore(before.toPacked()));
+    }
+
+    @Override
+    public int calculateScore(int before) {
+        return Score.addScore(before, pins.getFirstDownPin());
     }
 
     @Override
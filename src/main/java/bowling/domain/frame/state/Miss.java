@@ -29,15 +29,25 @@ public class Miss implements State {
 
     @Override
     public Score getCurrentScore() {
-        return new Score(pins.getDownPins(), 0);
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        return Score.pack(pins.getDownPins(), 0);
     }
 
     @Override
     public Score getCalculateScore(Score before) {
-        before = before.addScore(new Score(pins.getFirstDownPin()));
+        return Score.of(calculateScore(before.toPacked()));
+    }
+
+    @Override
+    public int calculateScore(int before) {
+        before = Score.addScore(before, pins.getFirstDownPin());
 
-        if (before.canAddNextScore()) {
-            return before.addScore(new Score(pins.getSecondDownPin()));
+        if (Score.canAddNextScore(before)) {
+            return Score.addScore(before, pins.getSecondDownPin());
         }
 
         return before;
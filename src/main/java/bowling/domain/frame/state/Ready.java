@@ -1,6 +1,7 @@
 package bowling.domain.frame.state;
 
 import bowling.domain.pin.Pin;
+import bowling.domain.pin.PinMask;
 import bowling.domain.pin.Pins;
 import bowling.domain.score.Score;
 import bowling.exception.BowlingException;
@@ -18,6 +19,17 @@ public class Ready implements State {
         return new FirstBowl(pin);
     }
 
+    @Override
+    public State bowlMask(final int standingMask) {
+        int pinsCount = PinMask.knockedDown(PinMask.FULL, standingMask);
+
+        if (pinsCount == Pin.MAX_PIN) {
+            return new Strike();
+        }
+
+        return new FirstBowl(new Pin(pinsCount), standingMask);
+    }
+
     @Override
     public boolean isFinish() {
         return false;
@@ -28,11 +40,21 @@ public class Ready implements State {
         throw new BowlingException();
     }
 
+    @Override
+    public int currentScore() {
+        throw new BowlingException();
+    }
+
     @Override
     public Score getCalculateScore(Score before) {
         throw new BowlingException();
     }
 
+    @Override
+    public int calculateScore(int before) {
+        throw new BowlingException();
+    }
+
     @Override
     public Pins getPins() {
         throw new BowlingException();
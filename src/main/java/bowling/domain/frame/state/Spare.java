@@ -36,15 +36,25 @@ public class Spare implements State {
 
     @Override
     public Score getCurrentScore() {
-        return new Score(pins.getDownPins(), 1);
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        return Score.pack(pins.getDownPins(), 1);
     }
 
     @Override
     public Score getCalculateScore(Score before) {
-        before = before.addScore(new Score(pins.getFirstDownPin()));
+        return Score.of(calculateScore(before.toPacked()));
+    }
+
+    @Override
+    public int calculateScore(int before) {
+        before = Score.addScore(before, pins.getFirstDownPin());
 
-        if (before.canAddNextScore()) {
-            return before.addScore(new Score(pins.getSecondDownPin()));
+        if (Score.canAddNextScore(before)) {
+            return Score.addScore(before, pins.getSecondDownPin());
         }
 
         return before;
@@ -2,6 +2,7 @@ package bowling.domain.frame.state;
 
 import bowling.domain.pin.Pins;
 import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
 
 public interface State {
 
@@ -9,11 +10,19 @@ public interface State {
 
     State bowl(int pinsCount);
 
+    default State bowlMask(int standingMask) {
+        throw new BowlingException(CANT_THROW_BALL);
+    }
+
     boolean isFinish();
 
     Score getCurrentScore();
 
+    int currentScore();
+
     Score getCalculateScore(Score before);
 
+    int calculateScore(int before);
+
     Pins getPins();
 }
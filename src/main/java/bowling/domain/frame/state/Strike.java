@@ -27,12 +27,22 @@ public class Strike implements State {
 
     @Override
     public Score getCurrentScore() {
-        return new Score(pins.getDownPins(), 2);
+        return Score.of(currentScore());
+    }
+
+    @Override
+    public int currentScore() {
+        return Score.pack(pins.getDownPins(), 2);
     }
 
     @Override
     public Score getCalculateScore(Score before) {
-        return before.addScore(new Score(Pin.MAX_PIN));
+        return Score.of(calculateScore(before.toPacked()));
+    }
+
+    @Override
+    public int calculateScore(int before) {
+        return Score.addScore(before, Pin.MAX_PIN);
     }
 
     @Override
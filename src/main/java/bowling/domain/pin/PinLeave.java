@@ -0,0 +1,14 @@
+package bowling.domain.pin;
+
+public enum PinLeave {
+    CLEAR,
+    SINGLE,
+    SPLIT,
+    CLUSTER;
+
+    private static final PinLeave[] VALUES = values();
+
+    static PinLeave of(final int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,127 @@
+package bowling.domain.pin;
+
+import bowling.exception.BowlingException;
+
+/**
+ * 서 있는 핀을 10 bit 로 나타낸다. bit 0 이 1번 핀(헤드핀), bit 9 가 10번 핀이다.
+ * 1024 가지 모든 조합의 남은 핀 수와 leave 분류를 미리 표로 만들어 두어 투구마다 배치 계산 없이 표만 찾는다.
+ * 스플릿은 헤드핀이 쓰러지고, 남은 핀들이 바로 앞뒤 대각선으로 이어지지 않는 두 무리 이상으로 나뉜 경우다.
+ */
+public class PinMask {
+
+    public static final int NONE = 0;
+    public static final int FULL = (1 << Pin.MAX_PIN) - 1;
+
+    static final String PIN_MASK_RANGE = "서 있는 핀은 10 bit 로 나타내야 합니다.";
+    static final String PIN_MASK_RAISED = "쓰러진 핀이 다시 설 수 없습니다.";
+
+    private static final int HEAD_PIN = 1;
+    private static final int[] ROWS = {0, 1, 1, 2, 2, 2, 3, 3, 3, 3};
+    private static final int[] COLUMNS = {0, -1, 1, -2, 0, 2, -3, -1, 1, 3};
+    private static final int[] NEIGHBORS = new int[Pin.MAX_PIN];
+    private static final byte[] COUNTS = new byte[FULL + 1];
+    private static final byte[] LEAVES = new byte[FULL + 1];
+    private static final String DELIMITER = "-";
+
+    static {
+        for (int pin = 0; pin < Pin.MAX_PIN; pin++) {
+            for (int other = 0; other < Pin.MAX_PIN; other++) {
+                if (Math.abs(ROWS[pin] - ROWS[other]) == 1 && Math.abs(COLUMNS[pin] - COLUMNS[other]) == 1) {
+                    NEIGHBORS[pin] |= 1 << other;
+                }
+            }
+        }
+
+        for (int mask = 0; mask <= FULL; mask++) {
+            COUNTS[mask] = (byte) Integer.bitCount(mask);
+            LEAVES[mask] = (byte) classify(mask).ordinal();
+        }
+    }
+
+    private PinMask() {
+    }
+
+    private static PinLeave classify(final int mask) {
+        int count = Integer.bitCount(mask);
+
+        if (count == 0) {
+            return PinLeave.CLEAR;
+        }
+        if (count == 1) {
+            return PinLeave.SINGLE;
+        }
+        if ((mask & HEAD_PIN) == 0 && group(mask) != mask) {
+            return PinLeave.SPLIT;
+        }
+        return PinLeave.CLUSTER;
+    }
+
+    private static int group(final int mask) {
+        int group = Integer.lowestOneBit(mask);
+        int previous = 0;
+
+        while (group != previous) {
+            previous = group;
+            for (int pin = 0; pin < Pin.MAX_PIN; pin++) {
+                if ((group >> pin & 1) != 0) {
+                    group |= NEIGHBORS[pin] & mask;
+                }
+            }
+        }
+        return group;
+    }
+
+    public static int validate(final int mask) {
+        if ((mask & ~FULL) != 0) {
+            throw new BowlingException(PIN_MASK_RANGE);
+        }
+        return mask;
+    }
+
+    public static int knockedDown(final int before, final int after) {
+        validate(after);
+        if ((after & ~before) != 0) {
+            throw new BowlingException(PIN_MASK_RAISED);
+        }
+        return COUNTS[before] - COUNTS[after];
+    }
+
+    public static int standing(final int mask) {
+        return COUNTS[mask];
+    }
+
+    public static PinLeave leaveOf(final int mask) {
+        return PinLeave.of(LEAVES[mask]);
+    }
+
+    public static boolean isSplit(final int mask) {
+        return LEAVES[mask] == PinLeave.SPLIT.ordinal();
+    }
+
+    public static int of(final int... pinNumbers) {
+        int mask = NONE;
+
+        for (int pinNumber : pinNumbers) {
+            if (pinNumber < HEAD_PIN || pinNumber > Pin.MAX_PIN) {
+                throw new BowlingException(Pin.PINS_COUNT_RANGE);
+            }
+            mask |= 1 << (pinNumber - 1);
+        }
+        return mask;
+    }
+
+    public static String toString(final int mask) {
+        StringBuilder buffer = new StringBuilder();
+
+        for (int pin = 0; pin < Pin.MAX_PIN; pin++) {
+            if ((mask >> pin & 1) == 0) {
+                continue;
+            }
+            if (buffer.length() > 0) {
+                buffer.append(DELIMITER);
+            }
+            buffer.append(pin + 1);
+        }
+        return buffer.toString();
+    }
+}
@@ -7,13 +7,21 @@ import java.util.Optional;
 
 public class Pins {
 
+    public static final int NO_MASK = -1;
+
     private final Pin firstPin;
     private final Pin secondPin;
+    private final int firstLeave;
 
     public Pins(Pin firstPin, Pin secondPin) {
+        this(firstPin, secondPin, NO_MASK);
+    }
+
+    public Pins(Pin firstPin, Pin secondPin, int firstLeave) {
         validateTotalPinCount(firstPin, secondPin);
         this.firstPin = firstPin;
         this.secondPin = secondPin;
+        this.firstLeave = firstLeave;
     }
 
     public static Pins from() {
@@ -34,7 +42,7 @@ public class Pins {
         if (secondPin != null) {
             throw new BowlingException();
         }
-        return new Pins(firstPin, second);
+        return new Pins(firstPin, second, firstLeave);
     }
 
     public boolean isFinish() {
@@ -65,9 +73,29 @@ public class Pins {
     }
 
     public int getDownPins() {
-        return firstPin.getDownPin() + Optional.ofNullable(secondPin)
-                .map(pin -> pin.getDownPin())
-                .orElse(0);
+        if (secondPin == null) {
+            return firstPin.getDownPin();
+        }
+        return firstPin.getDownPin() + secondPin.getDownPin();
+    }
+
+    public boolean hasFirstLeave() {
+        return firstLeave != NO_MASK;
+    }
+
+    public int getFirstLeave() {
+        return firstLeave;
+    }
+
+    public boolean isSplit() {
+        return hasFirstLeave() && PinMask.isSplit(firstLeave);
+    }
+
+    public int getLastDownPin() {
+        if (secondPin == null) {
+            return firstPin.getDownPin();
+        }
+        return secondPin.getDownPin();
     }
 
     public int getFirstDownPin() {
@@ -0,0 +1,54 @@
+package bowling.domain.roll;
+
+import bowling.exception.BowlingException;
+
+import java.nio.ByteBuffer;
+
+public class PackedRolls {
+
+    public static final int MAX_ROLLS = 21;
+    public static final int MAX_PACKED_BYTES = (MAX_ROLLS + 1) / 2;
+
+    private static final String ROLL_COUNT_ERR_MESSAGE = "투구는 최대 21번 까지 저장 가능 합니다.";
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+
+    private PackedRolls() {
+    }
+
+    public static byte[] pack(final byte[] rolls, final int rollCount) {
+        validateRollCount(rollCount);
+        byte[] packed = new byte[(rollCount + 1) / 2];
+
+        for (int i = 0; i < rollCount; i++) {
+            packed[i >> 1] |= (rolls[i] & NIBBLE_MASK) << ((i & 1) * NIBBLE_BITS);
+        }
+
+        return packed;
+    }
+
+    public static byte[] unpack(final byte[] packed, final int rollCount) {
+        validateRollCount(rollCount);
+        byte[] rolls = new byte[rollCount];
+
+        for (int i = 0; i < rollCount; i++) {
+            rolls[i] = (byte) get(packed, i);
+        }
+
+        return rolls;
+    }
+
+    public static int get(final byte[] packed, final int index) {
+        return (packed[index >> 1] >> ((index & 1) * NIBBLE_BITS)) & NIBBLE_MASK;
+    }
+
+    public static int get(final ByteBuffer buffer, final int offset, final int index) {
+        return (buffer.get(offset + (index >> 1)) >> ((index & 1) * NIBBLE_BITS)) & NIBBLE_MASK;
+    }
+
+    private static void validateRollCount(final int rollCount) {
+        if (rollCount < 0 || rollCount > MAX_ROLLS) {
+            throw new BowlingException(ROLL_COUNT_ERR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package bowling.domain.roll;
+
+import bowling.domain.frame.state.State;
+import bowling.domain.pin.Pin;
+import bowling.exception.BowlingException;
+
+/**
+ * 게임의 진행 위치를 int 하나로 나타내는 상태 기계. 프레임 번호, 프레임 안의 투구 순서, 다음 투구에 남은 핀,
+ * 10 프레임 스트라이크 보너스 여부와 종료 여부를 bit 로 담는다. 10 프레임은 스트라이크나 스페어 뒤에 보너스 1회만 던진다.
+ */
+public class RollState {
+
+    public static final int INITIAL = state(1, 0, Pin.MAX_PIN, false);
+
+    private static final int LAST_FRAME = 10;
+    private static final int FRAME_MASK = 0xF;
+    private static final int BALL_SHIFT = 4;
+    private static final int BALL_MASK = 0x3;
+    private static final int STANDING_SHIFT = 6;
+    private static final int STANDING_MASK = 0xF;
+    private static final int STRIKE_BONUS = 1 << 10;
+    private static final int FINISHED = 1 << 11;
+
+    private RollState() {
+    }
+
+    private static int state(final int frame, final int ball, final int standing, final boolean strikeBonus) {
+        return frame | ball << BALL_SHIFT | standing << STANDING_SHIFT | (strikeBonus ? STRIKE_BONUS : 0);
+    }
+
+    public static int frameOf(final int state) {
+        return state & FRAME_MASK;
+    }
+
+    public static int ballOf(final int state) {
+        return state >> BALL_SHIFT & BALL_MASK;
+    }
+
+    public static int standingOf(final int state) {
+        return state >> STANDING_SHIFT & STANDING_MASK;
+    }
+
+    public static boolean isFinish(final int state) {
+        return (state & FINISHED) != 0;
+    }
+
+    public static boolean isValid(final int state, final int pins) {
+        return !isFinish(state) && pins >= Pin.MIN_PIN && pins <= standingOf(state);
+    }
+
+    public static boolean completesFrame(final int before, final int after) {
+        return isFinish(after) || frameOf(after) != frameOf(before);
+    }
+
+    public static int next(final int state, final int pins) {
+        if (isFinish(state)) {
+            throw new BowlingException(State.CANT_THROW_BALL);
+        }
+
+        if (pins < Pin.MIN_PIN || pins > standingOf(state)) {
+            throw new BowlingException(Pin.PINS_COUNT_RANGE);
+        }
+
+        int frame = frameOf(state);
+        int ball = ballOf(state);
+        int standing = standingOf(state) - pins;
+
+        if (frame < LAST_FRAME) {
+            if (ball == 0 && standing != 0) {
+                return state(frame, 1, standing, false);
+            }
+            return state(frame + 1, 0, Pin.MAX_PIN, false);
+        }
+
+        if (ball == 0) {
+            boolean strike = standing == 0;
+            return state(frame, 1, strike ? Pin.MAX_PIN : standing, strike);
+        }
+
+        if (ball == 1 && (state & STRIKE_BONUS) == 0 && standing == 0) {
+            return state(frame, 2, Pin.MAX_PIN, false);
+        }
+
+        return state | FINISHED;
+    }
+}
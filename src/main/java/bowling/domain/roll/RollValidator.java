@@ -0,0 +1,108 @@
+package bowling.domain.roll;
+
+import bowling.domain.frame.state.State;
+import bowling.domain.pin.Pin;
+
+/**
+ * 투구 배열이 완료된 한 게임으로 올바른지 객체 생성 없이 한번에 검사한다. RollState 로 진행 위치를 따라가며
+ * 처음 잘못된 투구의 위치와 이유를 int 하나에 담아 돌려준다. 모자란 투구는 배열 길이를 위치로 한다.
+ */
+public class RollValidator {
+
+    public static final int VALID = 0;
+    public static final int PIN_RANGE = 1;
+    public static final int PIN_OVERFLOW = 2;
+    public static final int TRAILING_ROLL = 3;
+    public static final int INCOMPLETE = 4;
+
+    static final String PIN_OVERFLOW_ERR_MESSAGE = "한 프레임에 쓰러뜨린 핀이 남은 핀보다 많습니다.";
+    static final String INCOMPLETE_ERR_MESSAGE = "게임이 끝나지 않았습니다.";
+
+    private static final int INDEX_BITS = 24;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+    private RollValidator() {
+    }
+
+    public static int validate(final int[] rolls) {
+        return validate(rolls, rolls.length);
+    }
+
+    public static int validate(final int[] rolls, final int length) {
+        int state = RollState.INITIAL;
+
+        for (int i = 0; i < length; i++) {
+            int status = check(state, rolls[i]);
+            if (status != VALID) {
+                return result(status, i);
+            }
+            state = RollState.next(state, rolls[i]);
+        }
+        return finish(state, length);
+    }
+
+    public static int validate(final byte[] rolls) {
+        return validate(rolls, rolls.length);
+    }
+
+    public static int validate(final byte[] rolls, final int length) {
+        int state = RollState.INITIAL;
+
+        for (int i = 0; i < length; i++) {
+            int status = check(state, rolls[i]);
+            if (status != VALID) {
+                return result(status, i);
+            }
+            state = RollState.next(state, rolls[i]);
+        }
+        return finish(state, length);
+    }
+
+    private static int check(final int state, final int pins) {
+        if (RollState.isFinish(state)) {
+            return TRAILING_ROLL;
+        }
+        if (pins < Pin.MIN_PIN || pins > Pin.MAX_PIN) {
+            return PIN_RANGE;
+        }
+        if (pins > RollState.standingOf(state)) {
+            return PIN_OVERFLOW;
+        }
+        return VALID;
+    }
+
+    private static int finish(final int state, final int length) {
+        return RollState.isFinish(state) ? VALID : result(INCOMPLETE, length);
+    }
+
+    private static int result(final int status, final int index) {
+        return status << INDEX_BITS | index;
+    }
+
+    public static boolean isValid(final int result) {
+        return result == VALID;
+    }
+
+    public static int statusOf(final int result) {
+        return result >>> INDEX_BITS;
+    }
+
+    public static int indexOf(final int result) {
+        return result & INDEX_MASK;
+    }
+
+    public static String messageOf(final int result) {
+        switch (statusOf(result)) {
+            case PIN_RANGE:
+                return Pin.PINS_COUNT_RANGE;
+            case PIN_OVERFLOW:
+                return PIN_OVERFLOW_ERR_MESSAGE;
+            case TRAILING_ROLL:
+                return State.CANT_THROW_BALL;
+            case INCOMPLETE:
+                return INCOMPLETE_ERR_MESSAGE;
+            default:
+                return null;
+        }
+    }
+}
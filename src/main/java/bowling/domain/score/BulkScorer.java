@@ -0,0 +1,131 @@
+package bowling.domain.score;
+
+import bowling.domain.pin.Pin;
+import bowling.exception.BowlingException;
+
+/**
+ * 완료된 게임 여러 개를 struct-of-arrays 로 한번에 계산한다. slots[i][g] 는 g 번째 게임의 i 번째 투구 자리이며,
+ * 1~9 프레임은 2f, 2f + 1 자리(스트라이크면 두번째 자리는 0), 10 프레임은 18, 19, 20 자리를 쓴다.
+ * 자리가 고정되어 있으므로 프레임마다 게임 방향으로 분기 없는 단순 반복문만 돌고, JIT 가 vector 화 할 수 있다.
+ */
+public class BulkScorer {
+
+    public static final int SLOTS = 21;
+
+    private static final String SLOTS_ERR_MESSAGE = "투구 자리는 21개가 필요합니다.";
+    private static final int FRAMES = PackedGameScorer.FRAMES;
+    private static final int BONUS_FRAMES = FRAMES - 2;
+    private static final int NINTH_FRAME_SLOT = 16;
+    private static final int LAST_FRAME_SLOT = 18;
+    private static final int TEN_BIAS = 6;
+    private static final int TEN_SHIFT = 4;
+
+    private BulkScorer() {
+    }
+
+    public static int[] scoreAll(final int[][] slots) {
+        int games = validate(slots);
+        int[] totals = new int[games];
+
+        for (int frame = 0; frame < BONUS_FRAMES; frame++) {
+            addFrame(slots, 2 * frame, totals);
+        }
+        addNinthFrame(slots, totals);
+        addLastFrame(slots, totals);
+
+        return totals;
+    }
+
+    public static int[][] frameTotals(final int[][] slots) {
+        int games = validate(slots);
+        int[][] totals = new int[FRAMES][];
+        int[] running = new int[games];
+
+        for (int frame = 0; frame < BONUS_FRAMES; frame++) {
+            addFrame(slots, 2 * frame, running);
+            totals[frame] = running.clone();
+        }
+        addNinthFrame(slots, running);
+        totals[BONUS_FRAMES] = running.clone();
+        addLastFrame(slots, running);
+        totals[FRAMES - 1] = running;
+
+        return totals;
+    }
+
+    private static int validate(final int[][] slots) {
+        if (slots.length != SLOTS) {
+            throw new BowlingException(SLOTS_ERR_MESSAGE);
+        }
+        return slots[0].length;
+    }
+
+    private static int isTen(final int pins) {
+        return (pins + TEN_BIAS) >>> TEN_SHIFT;
+    }
+
+    private static void addFrame(final int[][] slots, final int slot, final int[] totals) {
+        int[] first = slots[slot];
+        int[] second = slots[slot + 1];
+        int[] nextFirst = slots[slot + 2];
+        int[] nextSecond = slots[slot + 3];
+        int[] afterNextFirst = slots[slot + 4];
+
+        for (int g = 0; g < totals.length; g++) {
+            int pins = first[g] + second[g];
+            int strike = isTen(first[g]);
+            int spare = isTen(pins) - strike;
+            int nextPins = nextFirst[g] + nextSecond[g];
+            int strikeBonus = nextPins + isTen(nextFirst[g]) * afterNextFirst[g];
+
+            totals[g] += pins + strike * strikeBonus + spare * nextFirst[g];
+        }
+    }
+
+    private static void addNinthFrame(final int[][] slots, final int[] totals) {
+        int[] first = slots[NINTH_FRAME_SLOT];
+        int[] second = slots[NINTH_FRAME_SLOT + 1];
+        int[] lastFirst = slots[LAST_FRAME_SLOT];
+        int[] lastSecond = slots[LAST_FRAME_SLOT + 1];
+
+        for (int g = 0; g < totals.length; g++) {
+            int pins = first[g] + second[g];
+            int strike = isTen(first[g]);
+            int spare = isTen(pins) - strike;
+
+            totals[g] += pins + strike * (lastFirst[g] + lastSecond[g]) + spare * lastFirst[g];
+        }
+    }
+
+    private static void addLastFrame(final int[][] slots, final int[] totals) {
+        int[] first = slots[LAST_FRAME_SLOT];
+        int[] second = slots[LAST_FRAME_SLOT + 1];
+        int[] bonus = slots[LAST_FRAME_SLOT + 2];
+
+        for (int g = 0; g < totals.length; g++) {
+            totals[g] += first[g] + second[g] + bonus[g];
+        }
+    }
+
+    public static int[][] toSlots(final byte[][] games) {
+        int[][] slots = new int[SLOTS][games.length];
+
+        for (int g = 0; g < games.length; g++) {
+            byte[] rolls = games[g];
+            int roll = 0;
+
+            for (int frame = 0; frame < FRAMES - 1; frame++) {
+                int first = rolls[roll++];
+                slots[2 * frame][g] = first;
+                if (first != Pin.MAX_PIN) {
+                    slots[2 * frame + 1][g] = rolls[roll++];
+                }
+            }
+            for (int slot = LAST_FRAME_SLOT; roll < rolls.length; slot++) {
+                slots[slot][g] = rolls[roll++];
+            }
+        }
+
+        return slots;
+    }
+}
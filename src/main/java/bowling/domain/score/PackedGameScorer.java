@@ -0,0 +1,137 @@
+package bowling.domain.score;
+
+import bowling.domain.frame.Frame;
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.PackedRolls;
+import bowling.exception.BowlingException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 완료된 게임의 투구 21개를 nibble 로 long 두개(low 에 0~15 번째, high 에 16~20 번째 투구)에 담아 계산한다.
+ * 프레임마다 첫 투구와 두번째 투구로 256칸 표를 찾아 보너스 여부와 밀어낼 bit 수를 얻으므로
+ * 점수는 r0 + r1 + bonus * r2 로 분기 없이 더해지고, 두 long 을 128 bit 처럼 밀어 다음 프레임이 맨 아래에 온다.
+ * 투구 배열, PackedRolls 의 nibble 순서와 같다.
+ */
+public class PackedGameScorer {
+
+    public static final int FRAMES = Frame.MAX_FRAME_NUMBER;
+
+    private static final String FRAME_TOTALS_ERR_MESSAGE = "프레임 점수는 10칸이 필요합니다.";
+    private static final int NORMAL_FRAMES = FRAMES - 1;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+    private static final int LOW_NIBBLES = 16;
+    private static final int LOW_BYTES = 8;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BONUS = 1;
+    private static final int STRIKE = 1 << 1;
+    private static final int LAST_BONUS = 1 << 2;
+    private static final byte[] FLAGS = new byte[1 << (2 * NIBBLE_BITS)];
+    private static final int[] SHIFTS = new int[LAST_BONUS << 1];
+
+    static {
+        for (int flags = 0; flags < SHIFTS.length; flags++) {
+            SHIFTS[flags] = ((flags & STRIKE) == 0 ? 2 : 1) * NIBBLE_BITS;
+        }
+        for (int first = 0; first <= Pin.MAX_PIN; first++) {
+            for (int second = 0; second <= Pin.MAX_PIN; second++) {
+                FLAGS[first << NIBBLE_BITS | second] = (byte) flags(first, second);
+            }
+        }
+    }
+
+    private PackedGameScorer() {
+    }
+
+    private static int flags(final int first, final int second) {
+        if (first == Pin.MAX_PIN) {
+            return BONUS | STRIKE;
+        }
+        if (first + second == Pin.MAX_PIN) {
+            return BONUS | LAST_BONUS;
+        }
+        return 0;
+    }
+
+    public static long low(final byte[] rolls) {
+        long low = 0;
+
+        for (int i = 0; i < Math.min(rolls.length, LOW_NIBBLES); i++) {
+            low |= (long) (rolls[i] & NIBBLE_MASK) << (i * NIBBLE_BITS);
+        }
+        return low;
+    }
+
+    public static long high(final byte[] rolls) {
+        long high = 0;
+
+        for (int i = LOW_NIBBLES; i < rolls.length; i++) {
+            high |= (long) (rolls[i] & NIBBLE_MASK) << ((i - LOW_NIBBLES) * NIBBLE_BITS);
+        }
+        return high;
+    }
+
+    public static long low(final ByteBuffer packedRolls, final int offset) {
+        long low = packedRolls.getLong(offset);
+        return packedRolls.order() == ByteOrder.LITTLE_ENDIAN ? low : Long.reverseBytes(low);
+    }
+
+    public static long high(final ByteBuffer packedRolls, final int offset) {
+        long high = 0;
+
+        for (int i = LOW_BYTES; i < PackedRolls.MAX_PACKED_BYTES; i++) {
+            high |= (long) (packedRolls.get(offset + i) & BYTE_MASK) << ((i - LOW_BYTES) * Byte.SIZE);
+        }
+        return high;
+    }
+
+    public static int score(long low, long high) {
+        int score = 0;
+
+        for (int frame = 0; frame < NORMAL_FRAMES; frame++) {
+            int first = (int) low & NIBBLE_MASK;
+            int second = (int) (low >>> NIBBLE_BITS) & NIBBLE_MASK;
+            int flags = FLAGS[first << NIBBLE_BITS | second];
+            int shift = SHIFTS[flags];
+
+            score += first + second + (flags & BONUS) * ((int) (low >>> (2 * NIBBLE_BITS)) & NIBBLE_MASK);
+            low = (low >>> shift) | (high << (Long.SIZE - shift));
+            high >>>= shift;
+        }
+
+        return score + lastFrame(low);
+    }
+
+    public static int frameTotals(long low, long high, final int[] frameTotals) {
+        if (frameTotals.length < FRAMES) {
+            throw new BowlingException(FRAME_TOTALS_ERR_MESSAGE);
+        }
+        int score = 0;
+
+        for (int frame = 0; frame < NORMAL_FRAMES; frame++) {
+            int first = (int) low & NIBBLE_MASK;
+            int second = (int) (low >>> NIBBLE_BITS) & NIBBLE_MASK;
+            int flags = FLAGS[first << NIBBLE_BITS | second];
+            int shift = SHIFTS[flags];
+
+            score += first + second + (flags & BONUS) * ((int) (low >>> (2 * NIBBLE_BITS)) & NIBBLE_MASK);
+            frameTotals[frame] = score;
+            low = (low >>> shift) | (high << (Long.SIZE - shift));
+            high >>>= shift;
+        }
+
+        score += lastFrame(low);
+        frameTotals[NORMAL_FRAMES] = score;
+        return score;
+    }
+
+    private static int lastFrame(final long low) {
+        int first = (int) low & NIBBLE_MASK;
+        int second = (int) (low >>> NIBBLE_BITS) & NIBBLE_MASK;
+        int flags = FLAGS[first << NIBBLE_BITS | second];
+
+        return first + second + (flags >>> 2 & 1) * ((int) (low >>> (2 * NIBBLE_BITS)) & NIBBLE_MASK);
+    }
+}
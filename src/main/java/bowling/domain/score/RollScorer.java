@@ -0,0 +1,54 @@
+package bowling.domain.score;
+
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.PackedRolls;
+
+import java.nio.ByteBuffer;
+
+/**
+ * nibble 로 압축된 완료된 게임의 투구를 Frame 객체 없이 바로 점수로 계산한다.
+ * 10 프레임은 스트라이크 뒤 보너스 1회, 스페어 뒤 보너스 1회를 더한 투구 합이다.
+ */
+public class RollScorer {
+
+    private static final int NORMAL_FRAMES = PackedGameScorer.FRAMES - 1;
+
+    private RollScorer() {
+    }
+
+    public static int score(final byte[] packedRolls) {
+        return score(ByteBuffer.wrap(packedRolls), 0);
+    }
+
+    public static int score(final ByteBuffer packedRolls, final int offset) {
+        int score = 0;
+        int roll = 0;
+
+        for (int frame = 0; frame < NORMAL_FRAMES; frame++) {
+            int first = PackedRolls.get(packedRolls, offset, roll);
+
+            if (first == Pin.MAX_PIN) {
+                score += Pin.MAX_PIN + PackedRolls.get(packedRolls, offset, roll + 1)
+                        + PackedRolls.get(packedRolls, offset, roll + 2);
+                roll++;
+                continue;
+            }
+
+            int frameScore = first + PackedRolls.get(packedRolls, offset, roll + 1);
+            if (frameScore == Pin.MAX_PIN) {
+                frameScore += PackedRolls.get(packedRolls, offset, roll + 2);
+            }
+            score += frameScore;
+            roll += 2;
+        }
+
+        int first = PackedRolls.get(packedRolls, offset, roll);
+        int second = PackedRolls.get(packedRolls, offset, roll + 1);
+        score += first + second;
+
+        if (first != Pin.MAX_PIN && first + second == Pin.MAX_PIN) {
+            score += PackedRolls.get(packedRolls, offset, roll + 2);
+        }
+        return score;
+    }
+}
@@ -4,28 +4,57 @@ import bowling.exception.BowlingException;
 
 import java.util.Objects;
 
+/**
+ * 점수와 남은 보너스 합산 횟수를 int 하나(score << 2 | addCount)로 담는다. 점수 계산 경로는 static 메소드로
+ * int 값만 주고받고, Score 객체는 공개 API 를 위한 얇은 view 로만 쓴다.
+ */
 public class Score {
 
-    private static final String SCORE_RANGE = "점수의 범위는 0~300점 사이 여야 합니다.";
+    public static final String SCORE_RANGE = "점수의 범위는 0~300점 사이 여야 합니다.";
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 300;
+
     private static final String ADD_COUNT_ERR_MESSAGE = "0~2회 까지만 점수 합산이 가능 합니다.";
     private static final int ZERO = 0;
     private static final int MINUS_COUNT = 1;
     private static final int MAX_ADD_COUNT = 2;
-    private static final int MAX_SCORE = 300;
+    private static final int ADD_COUNT_BITS = 2;
+    private static final int ADD_COUNT_MASK = (1 << ADD_COUNT_BITS) - 1;
 
-    private final int score;
-    private int addCount;
+    private final int packed;
 
     public Score(int score) {
-        validateScoreRange(score);
-        this.score = score;
+        this(score, ZERO);
     }
 
     public Score(int score, int addCount) {
         validateScoreRange(score);
         validateAddCount(addCount);
-        this.score = score;
-        this.addCount = addCount;
+        this.packed = pack(score, addCount);
+    }
+
+    public static Score of(int packed) {
+        return new Score(scoreOf(packed), addCountOf(packed));
+    }
+
+    public static int pack(int score, int addCount) {
+        return score << ADD_COUNT_BITS | addCount;
+    }
+
+    public static int scoreOf(int packed) {
+        return packed >> ADD_COUNT_BITS;
+    }
+
+    public static int addCountOf(int packed) {
+        return packed & ADD_COUNT_MASK;
+    }
+
+    public static boolean canAddNextScore(int packed) {
+        return (packed & ADD_COUNT_MASK) != ZERO;
+    }
+
+    public static int addScore(int packed, int pins) {
+        return packed + (pins << ADD_COUNT_BITS) - MINUS_COUNT;
     }
 
     private void validateAddCount(int addCount) {
@@ -34,22 +63,27 @@ public class Score {
         }
     }
 
-    private void validateScoreRange(int score) {
-        if (score < ZERO || score > MAX_SCORE) {
+    public static int validateScoreRange(int score) {
+        if (score < MIN_SCORE || score > MAX_SCORE) {
             throw new BowlingException(SCORE_RANGE);
         }
+        return score;
     }
 
     public boolean canAddNextScore() {
-        return addCount != 0;
+        return canAddNextScore(packed);
     }
 
     public Score addScore(Score added) {
-        return new Score(this.score + added.score, addCount - MINUS_COUNT);
+        return new Score(getScore() + added.getScore(), addCountOf(packed) - MINUS_COUNT);
     }
 
     public int getScore() {
-        return score;
+        return scoreOf(packed);
+    }
+
+    public int toPacked() {
+        return packed;
     }
 
     @Override
@@ -57,11 +91,11 @@ public class Score {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Score score1 = (Score) o;
-        return score == score1.score;
+        return getScore() == score1.getScore();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(score);
+        return Objects.hash(getScore());
     }
 }
@@ -0,0 +1,80 @@
+package bowling.lane;
+
+import bowling.domain.frame.FrameResult;
+import bowling.view.ScoreBoard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 리스너마다 예외를 따로 잡는다. 투구는 이미 반영되었으므로 한 리스너의 실패가 다른 리스너나 요청 스레드로 번지지 않는다.
+ */
+public class CompositeLaneListener implements LaneListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CompositeLaneListener.class);
+    private static final String LISTENER_FAILED_MESSAGE = "레인 리스너 처리 실패 : {}";
+
+    private final LaneListener[] listeners;
+
+    public CompositeLaneListener(final List<LaneListener> listeners) {
+        this.listeners = listeners.toArray(new LaneListener[0]);
+    }
+
+    @Override
+    public void onUpdate(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+        for (LaneListener listener : listeners) {
+            try {
+                listener.onUpdate(laneId, game, scoreBoard);
+            } catch (RuntimeException e) {
+                log.error(LISTENER_FAILED_MESSAGE, laneId, e);
+            }
+        }
+    }
+
+    @Override
+    public void onFrameCompleted(final int laneId, final LaneGame game, final int frameNumber,
+                                 final FrameResult result) {
+        for (LaneListener listener : listeners) {
+            try {
+                listener.onFrameCompleted(laneId, game, frameNumber, result);
+            } catch (RuntimeException e) {
+                log.error(LISTENER_FAILED_MESSAGE, laneId, e);
+            }
+        }
+    }
+
+    @Override
+    public void onRollApplied(final int laneId, final LaneGame game, final int frameNumber, final int pinCount) {
+        for (LaneListener listener : listeners) {
+            try {
+                listener.onRollApplied(laneId, game, frameNumber, pinCount);
+            } catch (RuntimeException e) {
+                log.error(LISTENER_FAILED_MESSAGE, laneId, e);
+            }
+        }
+    }
+
+    @Override
+    public void onFrameScoreSettled(final int laneId, final LaneGame game, final int frameNumber,
+                                    final int totalScore) {
+        for (LaneListener listener : listeners) {
+            try {
+                listener.onFrameScoreSettled(laneId, game, frameNumber, totalScore);
+            } catch (RuntimeException e) {
+                log.error(LISTENER_FAILED_MESSAGE, laneId, e);
+            }
+        }
+    }
+
+    @Override
+    public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+        for (LaneListener listener : listeners) {
+            try {
+                listener.onGameFinished(laneId, game, totalScore);
+            } catch (RuntimeException e) {
+                log.error(LISTENER_FAILED_MESSAGE, laneId, e);
+            }
+        }
+    }
+}
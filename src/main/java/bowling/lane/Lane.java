@@ -0,0 +1,103 @@
+package bowling.lane;
+
+import bowling.domain.GameEventListener;
+import bowling.domain.Player;
+import bowling.domain.frame.FrameResult;
+import bowling.exception.BowlingException;
+import bowling.view.ScoreBoard;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 레인의 게임은 SerialExecutor 위에서만 변경된다. 요청 스레드는 작업을 넘기고 바로 돌아가며,
+ * 조회는 마지막으로 공개된 ScoreBoard 를 읽으므로 어느 쪽도 락을 기다리지 않는다.
+ */
+public class Lane {
+
+    private static final String NO_GAME_MESSAGE = "진행 중인 게임이 없습니다.";
+
+    private final int laneId;
+    private final LaneListener listener;
+    private final Executor executor = new SerialExecutor();
+    private LaneGame game;
+    private volatile ScoreBoard scoreBoard;
+
+    public Lane() {
+        this(0, LaneListener.NONE);
+    }
+
+    public Lane(final int laneId, final LaneListener listener) {
+        this.laneId = laneId;
+        this.listener = listener;
+    }
+
+    public CompletableFuture<ScoreBoard> start(final Player player) {
+        return CompletableFuture.supplyAsync(() -> {
+            game = new LaneGame(player);
+            game.addListener(new LaneEvents(game));
+            return publish();
+        }, executor);
+    }
+
+    public CompletableFuture<ScoreBoard> play(final int pinCount) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (game == null) {
+                throw new BowlingException(NO_GAME_MESSAGE);
+            }
+
+            game.play(pinCount);
+            return publish();
+        }, executor);
+    }
+
+    public CompletableFuture<ScoreBoard> playMask(final int standingMask) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (game == null) {
+                throw new BowlingException(NO_GAME_MESSAGE);
+            }
+
+            game.playMask(standingMask);
+            return publish();
+        }, executor);
+    }
+
+    private ScoreBoard publish() {
+        scoreBoard = ScoreBoard.of(game.getGame());
+        listener.onUpdate(laneId, game, scoreBoard);
+        return scoreBoard;
+    }
+
+    public ScoreBoard getScoreBoard() {
+        return scoreBoard;
+    }
+
+    private class LaneEvents implements GameEventListener {
+
+        private final LaneGame game;
+
+        private LaneEvents(final LaneGame game) {
+            this.game = game;
+        }
+
+        @Override
+        public void onRollApplied(final int frameNumber, final int pinCount) {
+            listener.onRollApplied(laneId, game, frameNumber, pinCount);
+        }
+
+        @Override
+        public void onFrameCompleted(final int frameNumber, final FrameResult result) {
+            listener.onFrameCompleted(laneId, game, frameNumber, result);
+        }
+
+        @Override
+        public void onFrameScoreSettled(final int frameNumber, final int totalScore) {
+            listener.onFrameScoreSettled(laneId, game, frameNumber, totalScore);
+        }
+
+        @Override
+        public void onGameFinished(final int totalScore) {
+            listener.onGameFinished(laneId, game, totalScore);
+        }
+    }
+}
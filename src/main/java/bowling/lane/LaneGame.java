@@ -0,0 +1,63 @@
+package bowling.lane;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.GameEventListener;
+import bowling.domain.Player;
+import bowling.domain.roll.PackedRolls;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 레인에서 진행 중인 게임과 지금까지의 투구 배열. 투구는 BowlingGame 에 처음 등록한 listener 가 기록하므로
+ * 뒤에 등록된 listener 는 게임 종료 이벤트에서도 마지막 투구까지 담긴 배열을 본다.
+ */
+public class LaneGame {
+
+    private final String id;
+    private final BowlingGame game;
+    private final byte[] rolls = new byte[PackedRolls.MAX_ROLLS];
+    private int rollCount;
+
+    public LaneGame(final Player player) {
+        this(UUID.randomUUID().toString(), player);
+    }
+
+    public LaneGame(final String id, final Player player) {
+        this.id = id;
+        this.game = new BowlingGame(player, new GameEventListener() {
+            @Override
+            public void onRollApplied(final int frameNumber, final int pinCount) {
+                rolls[rollCount++] = (byte) pinCount;
+            }
+        });
+    }
+
+    public void addListener(final GameEventListener listener) {
+        game.addListener(listener);
+    }
+
+    public void play(final int pinCount) {
+        game.play(pinCount);
+    }
+
+    public void playMask(final int standingMask) {
+        game.playMask(standingMask);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public BowlingGame getGame() {
+        return game;
+    }
+
+    public byte[] getRolls() {
+        return Arrays.copyOf(rolls, rollCount);
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+}
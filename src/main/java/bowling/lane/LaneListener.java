@@ -0,0 +1,25 @@
+package bowling.lane;
+
+import bowling.domain.frame.FrameResult;
+import bowling.view.ScoreBoard;
+
+public interface LaneListener {
+
+    LaneListener NONE = new LaneListener() {
+    };
+
+    default void onUpdate(int laneId, LaneGame game, ScoreBoard scoreBoard) {
+    }
+
+    default void onRollApplied(int laneId, LaneGame game, int frameNumber, int pinCount) {
+    }
+
+    default void onFrameCompleted(int laneId, LaneGame game, int frameNumber, FrameResult result) {
+    }
+
+    default void onFrameScoreSettled(int laneId, LaneGame game, int frameNumber, int totalScore) {
+    }
+
+    default void onGameFinished(int laneId, LaneGame game, int totalScore) {
+    }
+}
@@ -0,0 +1,33 @@
+package bowling.lane;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class LaneRegistry {
+
+    private final ConcurrentMap<Integer, Lane> lanes = new ConcurrentHashMap<>();
+    private final LaneListener listener;
+
+    public LaneRegistry(final List<LaneListener> listeners) {
+        this.listener = new CompositeLaneListener(listeners);
+    }
+
+    public Lane getOrCreate(final int laneId) {
+        Lane lane = lanes.get(laneId);
+
+        if (lane != null) {
+            return lane;
+        }
+
+        return lanes.computeIfAbsent(laneId, id -> new Lane(id, listener));
+    }
+
+    public Optional<Lane> find(final int laneId) {
+        return Optional.ofNullable(lanes.get(laneId));
+    }
+}
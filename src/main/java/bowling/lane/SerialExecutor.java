@@ -0,0 +1,41 @@
+package bowling.lane;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SerialExecutor implements Executor {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+
+        if (pending.getAndIncrement() == 0) {
+            drain();
+        }
+    }
+
+    private void runSafely(final Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            Thread currentThread = Thread.currentThread();
+            currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, e);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+
+        while (missed != 0) {
+            for (int i = 0; i < missed; i++) {
+                runSafely(tasks.poll());
+            }
+            missed = pending.addAndGet(-missed);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package bowling.leaderboard;
+
+import bowling.collection.ConcurrentIntObjectMap;
+import bowling.domain.BowlingGame;
+import bowling.domain.PlayerRegistry;
+import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 플레이어별 최고 점수로 순위를 매긴다. 점수는 0~300 으로 한정되므로 점수별 bucket 과 Fenwick tree 로
+ * 순위를 구하며, 갱신은 해당 플레이어 단위로만 동기화되고 전체 락은 없다. bucket 은 이름 순으로 정렬되어 있어
+ * 상위 K 개 조회는 동점자가 많아도 K 개까지만 읽는다.
+ */
+@Component
+public class Leaderboard implements LaneListener {
+
+    private static final String NOT_FINISHED_MESSAGE = "끝나지 않은 게임은 순위에 올릴 수 없습니다.";
+    private static final String TOP_SIZE_MESSAGE = "조회할 순위 개수는 1 이상 이어야 합니다.";
+    private static final int LAST_FRAME = 10;
+    private static final int NONE = -1;
+    private static final Comparator<Best> BY_NAME = Comparator.comparing(best -> best.name);
+
+    private final ConcurrentIntObjectMap<Best> bests = new ConcurrentIntObjectMap<>();
+    private final List<Set<Best>> buckets = new ArrayList<>(Score.MAX_SCORE + 1);
+    private final ScoreCounts counts = new ScoreCounts(Score.MAX_SCORE);
+    private final PlayerRegistry playerRegistry;
+
+    public Leaderboard(final PlayerRegistry playerRegistry) {
+        this.playerRegistry = playerRegistry;
+
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            buckets.add(new ConcurrentSkipListSet<>(BY_NAME));
+        }
+    }
+
+    @Override
+    public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+        submit(playerRegistry.keyOf(game.getGame().getPlayerName()), totalScore);
+    }
+
+    public boolean submit(final BowlingGame game) {
+        if (!game.isFinish()) {
+            throw new BowlingException(NOT_FINISHED_MESSAGE);
+        }
+
+        return submit(playerRegistry.keyOf(game.getPlayerName()), game.totalScore(LAST_FRAME));
+    }
+
+    public boolean submit(final String playerName, final int score) {
+        return submit(playerRegistry.keyOf(playerName), score);
+    }
+
+    public boolean submit(final int playerKey, final int score) {
+        Score.validateScoreRange(score);
+
+        Best best = bests.computeIfAbsent(playerKey, key -> new Best(playerRegistry.nameOf(key)));
+
+        synchronized (best) {
+            int previous = best.score;
+            if (score <= previous) {
+                return false;
+            }
+
+            if (previous != NONE) {
+                buckets.get(previous).remove(best);
+                counts.add(previous, -1);
+            }
+
+            buckets.get(score).add(best);
+            counts.add(score, 1);
+            best.score = score;
+            return true;
+        }
+    }
+
+    public Optional<LeaderboardEntry> find(final String playerName) {
+        OptionalInt playerKey = playerRegistry.findKey(playerName);
+        Best best = playerKey.isPresent() ? bests.get(playerKey.getAsInt()) : null;
+
+        if (best == null || best.score == NONE) {
+            return Optional.empty();
+        }
+
+        int score = best.score;
+        return Optional.of(new LeaderboardEntry(counts.countAbove(score) + 1, playerName, score));
+    }
+
+    public List<LeaderboardEntry> top(final int size) {
+        if (size < 1) {
+            throw new BowlingException(TOP_SIZE_MESSAGE);
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(size);
+
+        for (int score = Score.MAX_SCORE; score >= 0 && entries.size() < size; score--) {
+            Set<Best> tied = buckets.get(score);
+            if (tied.isEmpty()) {
+                continue;
+            }
+
+            long rank = counts.countAbove(score) + 1;
+            for (Best best : tied) {
+                if (entries.size() == size) {
+                    break;
+                }
+                entries.add(new LeaderboardEntry(rank, best.name, score));
+            }
+        }
+
+        return entries;
+    }
+
+    public long size() {
+        return counts.total();
+    }
+
+    private static class Best {
+        private final String name;
+        private volatile int score = NONE;
+
+        Best(final String name) {
+            this.name = name;
+        }
+    }
+}
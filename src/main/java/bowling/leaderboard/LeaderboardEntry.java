@@ -0,0 +1,31 @@
+package bowling.leaderboard;
+
+public class LeaderboardEntry {
+
+    private final long rank;
+    private final String playerName;
+    private final int score;
+
+    public LeaderboardEntry(final long rank, final String playerName, final int score) {
+        this.rank = rank;
+        this.playerName = playerName;
+        this.score = score;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return rank + ". " + playerName + " " + score;
+    }
+}
@@ -0,0 +1,51 @@
+package bowling.leaderboard;
+
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 끝난 게임을 분 단위 ring(한 시간)과 시간 단위 ring(일주일)에 함께 기록해 기간별 순위를 돌려준다.
+ * bucket 마다 상위 100 게임만 이름을 남기므로 한번에 조회할 수 있는 순위도 100 개까지다.
+ */
+@Component
+public class RecentLeaderboard implements LaneListener {
+
+    private static final int MINUTES = 60;
+    private static final int HOURS = 7 * 24;
+    private static final int TOP_CAPACITY = 100;
+
+    private final WindowedLeaderboard minutes;
+    private final WindowedLeaderboard hours;
+
+    public RecentLeaderboard(final Clock clock) {
+        this.minutes = new WindowedLeaderboard(clock, Duration.ofMinutes(1), MINUTES, TOP_CAPACITY);
+        this.hours = new WindowedLeaderboard(clock, Duration.ofHours(1), HOURS, TOP_CAPACITY);
+    }
+
+    @Override
+    public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+        record(game.getGame().getPlayerName(), totalScore);
+    }
+
+    public void record(final String playerName, final int score) {
+        minutes.record(playerName, score);
+        hours.record(playerName, score);
+    }
+
+    public List<LeaderboardEntry> top(final RecentWindow window, final int size) {
+        return leaderboardOf(window).top(window.getDuration(), size);
+    }
+
+    public long rank(final RecentWindow window, final int score) {
+        return leaderboardOf(window).rank(window.getDuration(), score);
+    }
+
+    private WindowedLeaderboard leaderboardOf(final RecentWindow window) {
+        return window == RecentWindow.HOUR ? minutes : hours;
+    }
+}
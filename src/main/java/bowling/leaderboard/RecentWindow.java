@@ -0,0 +1,32 @@
+package bowling.leaderboard;
+
+import bowling.exception.BowlingException;
+
+import java.time.Duration;
+
+public enum RecentWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private static final String WINDOW_MESSAGE = "조회할 수 있는 기간은 hour, day, week 입니다.";
+
+    private final Duration duration;
+
+    RecentWindow(final Duration duration) {
+        this.duration = duration;
+    }
+
+    public static RecentWindow of(final String name) {
+        for (RecentWindow window : values()) {
+            if (window.name().equalsIgnoreCase(name)) {
+                return window;
+            }
+        }
+        throw new BowlingException(WINDOW_MESSAGE);
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
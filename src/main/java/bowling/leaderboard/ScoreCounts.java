@@ -0,0 +1,41 @@
+package bowling.leaderboard;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 0~maxScore 점수별 개수를 담는 Fenwick tree. 노드마다 원자적으로 더하므로 갱신끼리 락이 필요 없다.
+ */
+public class ScoreCounts {
+
+    private final int maxScore;
+    private final AtomicLongArray tree;
+
+    public ScoreCounts(final int maxScore) {
+        this.maxScore = maxScore;
+        this.tree = new AtomicLongArray(maxScore + 2);
+    }
+
+    public void add(final int score, final long delta) {
+        for (int i = score + 1; i < tree.length(); i += i & -i) {
+            tree.getAndAdd(i, delta);
+        }
+    }
+
+    public long countAtMost(final int score) {
+        long count = 0;
+
+        for (int i = score + 1; i > 0; i -= i & -i) {
+            count += tree.get(i);
+        }
+
+        return count;
+    }
+
+    public long countAbove(final int score) {
+        return total() - countAtMost(score);
+    }
+
+    public long total() {
+        return countAtMost(maxScore);
+    }
+}
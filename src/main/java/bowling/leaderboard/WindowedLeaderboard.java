@@ -0,0 +1,190 @@
+package bowling.leaderboard;
+
+import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 일정 시간 동안의 게임 점수로 순위를 매긴다. 시간을 bucketDuration 단위 bucket 으로 나눠 ring 에 두고,
+ * bucket 마다 0~300 점수별 개수와 (점수, 이름) 순 상위 topCapacity 개 게임만 남긴다. ring 칸에 더 새로운 bucket 을
+ * CAS 로 끼워 넣는 것으로 오래된 bucket 이 한 번에 만료되며, 조회는 창에 걸친 bucket 들의 개수와 상위 목록만 합친다.
+ * 창은 현재 bucket 을 포함한 최근 bucket 단위로 잡히므로 실제 범위는 bucket 하나만큼 짧을 수 있다.
+ */
+public class WindowedLeaderboard {
+
+    private static final String TOP_SIZE_MESSAGE = "조회할 순위 개수는 1 이상, 보관하는 상위 개수 이하 여야 합니다.";
+    private static final String WINDOW_MESSAGE = "조회할 기간이 보관 기간을 벗어났습니다.";
+    private static final String BUCKET_MESSAGE = "bucket 과 상위 보관 개수는 1개 이상, 길이는 1ms 이상 이어야 합니다.";
+    private static final Comparator<Scored> RANKING = Comparator.<Scored>comparingInt(scored -> scored.score)
+            .reversed()
+            .thenComparing(scored -> scored.playerName);
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int topCapacity;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    public WindowedLeaderboard(final Clock clock, final Duration bucketDuration, final int bucketCount,
+                               final int topCapacity) {
+        if (bucketCount < 1 || topCapacity < 1 || bucketDuration.toMillis() < 1) {
+            throw new BowlingException(BUCKET_MESSAGE);
+        }
+        this.clock = clock;
+        this.bucketMillis = bucketDuration.toMillis();
+        this.topCapacity = topCapacity;
+        this.ring = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void record(final String playerName, final int score) {
+        Score.validateScoreRange(score);
+        currentBucket().add(new Scored(playerName, score));
+    }
+
+    private Bucket currentBucket() {
+        long epoch = epoch();
+        int slot = (int) Math.floorMod(epoch, (long) ring.length());
+
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+
+            Bucket fresh = new Bucket(epoch, topCapacity);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private long epoch() {
+        return Math.floorDiv(clock.millis(), bucketMillis);
+    }
+
+    public List<LeaderboardEntry> top(final Duration window, final int size) {
+        if (size < 1 || size > topCapacity) {
+            throw new BowlingException(TOP_SIZE_MESSAGE);
+        }
+
+        List<Bucket> buckets = bucketsIn(window);
+        List<Scored> candidates = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            bucket.collectTop(candidates);
+        }
+        candidates.sort(RANKING);
+
+        long[] above = countsAbove(buckets);
+        List<LeaderboardEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < candidates.size() && entries.size() < size; i++) {
+            Scored scored = candidates.get(i);
+            entries.add(new LeaderboardEntry(above[scored.score] + 1, scored.playerName, scored.score));
+        }
+        return entries;
+    }
+
+    public long rank(final Duration window, final int score) {
+        Score.validateScoreRange(score);
+        return countsAbove(bucketsIn(window))[score] + 1;
+    }
+
+    public long count(final Duration window) {
+        long count = 0;
+
+        for (Bucket bucket : bucketsIn(window)) {
+            for (int score = Score.MIN_SCORE; score <= Score.MAX_SCORE; score++) {
+                count += bucket.counts.get(score);
+            }
+        }
+        return count;
+    }
+
+    private static long[] countsAbove(final List<Bucket> buckets) {
+        long[] above = new long[Score.MAX_SCORE + 1];
+
+        for (int score = Score.MAX_SCORE - 1; score >= Score.MIN_SCORE; score--) {
+            long count = above[score + 1];
+            for (Bucket bucket : buckets) {
+                count += bucket.counts.get(score + 1);
+            }
+            above[score] = count;
+        }
+        return above;
+    }
+
+    private List<Bucket> bucketsIn(final Duration window) {
+        long windowBuckets = (window.toMillis() + bucketMillis - 1) / bucketMillis;
+        if (windowBuckets < 1 || windowBuckets > ring.length()) {
+            throw new BowlingException(WINDOW_MESSAGE);
+        }
+
+        long now = epoch();
+        List<Bucket> buckets = new ArrayList<>((int) windowBuckets);
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.epoch > now - windowBuckets && bucket.epoch <= now) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+
+    private static class Scored {
+        private final String playerName;
+        private final int score;
+
+        Scored(final String playerName, final int score) {
+            this.playerName = playerName;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 점수별 개수는 원자적으로 세고, 상위 목록은 가장 낮은 순위가 머리에 오는 크기 topCapacity 의 heap 으로 둔다.
+     * heap 이 찬 뒤 마지막 점수보다 낮은 게임은 lock 없이 개수만 센다.
+     */
+    private static class Bucket {
+        private final long epoch;
+        private final int topCapacity;
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(Score.MAX_SCORE + 1);
+        private final PriorityQueue<Scored> top;
+        private volatile int floor = Score.MIN_SCORE;
+
+        Bucket(final long epoch, final int topCapacity) {
+            this.epoch = epoch;
+            this.topCapacity = topCapacity;
+            this.top = new PriorityQueue<>(topCapacity, RANKING.reversed());
+        }
+
+        void add(final Scored scored) {
+            counts.incrementAndGet(scored.score);
+            if (scored.score < floor) {
+                return;
+            }
+
+            synchronized (this) {
+                if (top.size() < topCapacity) {
+                    top.add(scored);
+                } else if (RANKING.compare(scored, top.peek()) < 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+
+                if (top.size() == topCapacity) {
+                    floor = top.peek().score;
+                }
+            }
+        }
+
+        synchronized void collectTop(final List<Scored> candidates) {
+            candidates.addAll(top);
+        }
+    }
+}
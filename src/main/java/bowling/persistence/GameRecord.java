@@ -0,0 +1,98 @@
+package bowling.persistence;
+
+import bowling.domain.roll.PackedRolls;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_game_record_lane_finished", columnList = "lane_id, finished"))
+public class GameRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private int laneId;
+
+    @Column(length = 3, nullable = false)
+    private String playerName;
+
+    @Column(length = PackedRolls.MAX_PACKED_BYTES, nullable = false)
+    private byte[] rolls;
+
+    private int rollCount;
+
+    private int score;
+
+    private boolean finished;
+
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean newRecord;
+
+    protected GameRecord() {
+    }
+
+    public GameRecord(final GameSnapshot snapshot) {
+        this.id = snapshot.getGameId();
+        this.laneId = snapshot.getLaneId();
+        this.playerName = snapshot.getPlayerName();
+        this.newRecord = true;
+        update(snapshot);
+    }
+
+    public void update(final GameSnapshot snapshot) {
+        this.rolls = snapshot.getPackedRolls();
+        this.rollCount = snapshot.getRollCount();
+        this.score = snapshot.getScore();
+        this.finished = snapshot.isFinished();
+        this.updatedAt = snapshot.getUpdatedAt();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    public int getLaneId() {
+        return laneId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public byte[] getRolls() {
+        return PackedRolls.unpack(rolls, rollCount);
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
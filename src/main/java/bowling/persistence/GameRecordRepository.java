@@ -0,0 +1,11 @@
+package bowling.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GameRecordRepository extends JpaRepository<GameRecord, String> {
+    List<GameRecord> findByLaneIdAndFinishedFalse(int laneId);
+
+    List<GameRecord> findByPlayerNameAndFinishedTrue(String playerName);
+}
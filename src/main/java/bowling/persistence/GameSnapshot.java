@@ -0,0 +1,66 @@
+package bowling.persistence;
+
+import bowling.domain.roll.PackedRolls;
+import bowling.lane.LaneGame;
+import bowling.view.ScoreBoard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class GameSnapshot {
+
+    private final String gameId;
+    private final int laneId;
+    private final String playerName;
+    private final byte[] packedRolls;
+    private final int rollCount;
+    private final int score;
+    private final boolean finished;
+    private final LocalDateTime updatedAt;
+
+    public GameSnapshot(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+        byte[] rolls = game.getRolls();
+        List<Integer> scores = scoreBoard.getScores();
+
+        this.gameId = game.getId();
+        this.laneId = laneId;
+        this.playerName = scoreBoard.getPlayerName();
+        this.packedRolls = PackedRolls.pack(rolls, rolls.length);
+        this.rollCount = rolls.length;
+        this.score = scores.isEmpty() ? 0 : scores.get(scores.size() - 1);
+        this.finished = scoreBoard.isFinish();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public int getLaneId() {
+        return laneId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public byte[] getPackedRolls() {
+        return packedRolls;
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,186 @@
+package bowling.persistence;
+
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import bowling.view.ScoreBoard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 레인 스레드는 게임별 최신 스냅샷을 map 에 덮어쓰기만 하고, 저장은 flush 스레드가 주기적으로 모아서 한다.
+ * 같은 게임의 여러 투구는 flush 사이에 하나의 스냅샷으로 합쳐지고, 한번의 flush 는 하나의 트랜잭션에서
+ * batch insert/update 로 처리된다. batch 가 실패하면 게임마다 따로 저장해 정상인 게임은 그 flush 에서 저장하고,
+ * 실패한 스냅샷만 시도 횟수를 더해 map 에 되돌린다. 그 사이 더 새로운 스냅샷이 들어왔다면 새 것을 남기며,
+ * MAX_ATTEMPTS 번 실패한 스냅샷은 버리고 deadLetterCount 로 센다.
+ */
+@Component
+public class GameWriteBehind implements LaneListener {
+    private static final Logger log = LoggerFactory.getLogger(GameWriteBehind.class);
+
+    private static final String THREAD_NAME = "game-write-behind";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ConcurrentMap<String, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+    private final GameRecordRepository gameRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService flusher;
+
+    public GameWriteBehind(final GameRecordRepository gameRecordRepository,
+                           final PlatformTransactionManager transactionManager,
+                           @Value("${bowling.persistence.flush-interval-ms:100}") final long flushIntervalMillis) {
+        this.gameRecordRepository = gameRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onUpdate(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+        if (game.getRollCount() == 0) {
+            return;
+        }
+
+        pending.put(game.getId(), new Pending(new GameSnapshot(laneId, game, scoreBoard), 0));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("게임 저장 실패", e);
+        }
+    }
+
+    public int flush() {
+        List<Pending> batch = takePending();
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            saveInTransaction(batch.stream()
+                    .map(it -> it.snapshot)
+                    .collect(Collectors.toList()));
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("게임 batch 저장 실패, 게임별로 다시 저장합니다", e);
+            return saveEach(batch);
+        }
+    }
+
+    private int saveEach(final List<Pending> batch) {
+        int saved = 0;
+
+        for (Pending each : batch) {
+            try {
+                saveInTransaction(Collections.singletonList(each.snapshot));
+                saved++;
+            } catch (RuntimeException e) {
+                retryLater(each, e);
+            }
+        }
+        return saved;
+    }
+
+    private void retryLater(final Pending failed, final RuntimeException cause) {
+        String gameId = failed.snapshot.getGameId();
+        int attempts = failed.attempts + 1;
+
+        if (attempts >= MAX_ATTEMPTS) {
+            deadLetterCount.incrementAndGet();
+            log.error("게임 저장 포기 : {}", gameId, cause);
+            return;
+        }
+        pending.putIfAbsent(gameId, new Pending(failed.snapshot, attempts));
+    }
+
+    private void saveInTransaction(final List<GameSnapshot> snapshots) {
+        transactionTemplate.execute(status -> {
+            save(snapshots);
+            return null;
+        });
+    }
+
+    private List<Pending> takePending() {
+        List<Pending> batch = new ArrayList<>(pending.size());
+
+        for (String gameId : pending.keySet()) {
+            Pending each = pending.remove(gameId);
+            if (each != null) {
+                batch.add(each);
+            }
+        }
+
+        return batch;
+    }
+
+    private void save(final List<GameSnapshot> snapshots) {
+        List<String> ids = snapshots.stream()
+                .map(GameSnapshot::getGameId)
+                .collect(Collectors.toList());
+        Map<String, GameRecord> existing = gameRecordRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(GameRecord::getId, Function.identity()));
+        List<GameRecord> inserts = new ArrayList<>();
+
+        for (GameSnapshot snapshot : snapshots) {
+            GameRecord record = existing.get(snapshot.getGameId());
+            if (record == null) {
+                inserts.add(new GameRecord(snapshot));
+                continue;
+            }
+            record.update(snapshot);
+        }
+
+        gameRecordRepository.saveAll(inserts);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long deadLetterCount() {
+        return deadLetterCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flushSafely();
+    }
+
+    private static class Pending {
+        private final GameSnapshot snapshot;
+        private final int attempts;
+
+        Pending(final GameSnapshot snapshot, final int attempts) {
+            this.snapshot = snapshot;
+            this.attempts = attempts;
+        }
+    }
+}
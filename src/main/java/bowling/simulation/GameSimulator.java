@@ -0,0 +1,86 @@
+package bowling.simulation;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.frame.Frame;
+import bowling.domain.score.Score;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 실력 프로필에 따라 임의의 게임을 BowlingGame 으로 끝까지 진행하고 10 프레임 누적 점수의 분포를 구한다.
+ * 게임 수를 반씩 나누며 SplittableRandom 도 함께 split 하므로, 같은 seed 면 스레드 수와 관계없이 같은 결과가 나온다.
+ */
+public class GameSimulator {
+
+    private static final long LEAF_GAMES = 10_000;
+    private static final Player PLAYER = new Player("SIM");
+
+    private final ForkJoinPool pool;
+
+    public GameSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GameSimulator(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SimulationResult simulate(final SkillProfile profile, final long games, final long seed) {
+        long start = System.nanoTime();
+        long[] histogram = pool.invoke(new SimulationTask(profile, games, new SplittableRandom(seed)));
+        return new SimulationResult(histogram, System.nanoTime() - start);
+    }
+
+    static int play(final SkillProfile profile, final SplittableRandom random) {
+        BowlingGame game = new BowlingGame(PLAYER);
+
+        for (byte pins : profile.randomGame(random)) {
+            game.play(pins);
+        }
+        return game.totalScore(Frame.MAX_FRAME_NUMBER);
+    }
+
+    private static class SimulationTask extends RecursiveTask<long[]> {
+
+        private final SkillProfile profile;
+        private final long games;
+        private final SplittableRandom random;
+
+        SimulationTask(final SkillProfile profile, final long games, final SplittableRandom random) {
+            this.profile = profile;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (games <= LEAF_GAMES) {
+                return playAll();
+            }
+
+            long half = games / 2;
+            SimulationTask left = new SimulationTask(profile, half, random.split());
+            SimulationTask right = new SimulationTask(profile, games - half, random);
+            left.fork();
+
+            long[] histogram = right.compute();
+            long[] other = left.join();
+            for (int score = 0; score <= Score.MAX_SCORE; score++) {
+                histogram[score] += other[score];
+            }
+            return histogram;
+        }
+
+        private long[] playAll() {
+            long[] histogram = new long[Score.MAX_SCORE + 1];
+
+            for (long i = 0; i < games; i++) {
+                histogram[play(profile, random)]++;
+            }
+            return histogram;
+        }
+    }
+}
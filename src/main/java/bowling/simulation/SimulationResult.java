@@ -0,0 +1,81 @@
+package bowling.simulation;
+
+import bowling.domain.score.Score;
+
+public class SimulationResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long[] histogram;
+    private final long games;
+    private final long elapsedNanos;
+
+    public SimulationResult(final long[] histogram, final long elapsedNanos) {
+        this.histogram = histogram;
+        this.games = sum(histogram);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private static long sum(final long[] histogram) {
+        long sum = 0;
+        for (long count : histogram) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    public long getCount(final int score) {
+        return histogram[score];
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getMean() {
+        double total = 0;
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            total += (double) score * histogram[score];
+        }
+        return total / games;
+    }
+
+    public int getMin() {
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            if (histogram[score] > 0) {
+                return score;
+            }
+        }
+        return 0;
+    }
+
+    public int getMax() {
+        for (int score = Score.MAX_SCORE; score >= 0; score--) {
+            if (histogram[score] > 0) {
+                return score;
+            }
+        }
+        return 0;
+    }
+
+    public int getPercentile(final double percentile) {
+        long target = (long) Math.ceil(games * percentile / 100.0);
+        long seen = 0;
+
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            seen += histogram[score];
+            if (seen >= Math.max(target, 1)) {
+                return score;
+            }
+        }
+        return Score.MAX_SCORE;
+    }
+
+    public double getGamesPerSecond() {
+        return games / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
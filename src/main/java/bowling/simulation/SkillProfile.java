@@ -0,0 +1,117 @@
+package bowling.simulation;
+
+import bowling.domain.frame.Frame;
+import bowling.domain.pin.Pin;
+import bowling.domain.roll.PackedRolls;
+import bowling.exception.BowlingException;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 첫 투구에서 쓰러뜨리는 핀 수의 가중치와 남은 핀을 모두 처리할 확률로 투구 분포를 정한다.
+ * 스페어 처리에 실패하면 남은 핀 중 0 ~ (남은 핀 - 1) 개를 고르게 쓰러뜨린다.
+ */
+public class SkillProfile {
+
+    private static final String WEIGHTS_ERR_MESSAGE = "첫 투구 가중치는 0~10 핀 11개가 필요합니다.";
+    private static final String UNKNOWN_PROFILE_MESSAGE = "알 수 없는 실력 프로필 입니다.";
+
+    public static final SkillProfile BEGINNER = new SkillProfile("beginner",
+            new double[]{4, 5, 7, 9, 11, 12, 12, 11, 10, 8, 6}, 0.10);
+    public static final SkillProfile AMATEUR = new SkillProfile("amateur",
+            new double[]{1, 1, 2, 3, 5, 7, 9, 13, 18, 21, 20}, 0.35);
+    public static final SkillProfile PRO = new SkillProfile("pro",
+            new double[]{0, 0, 0, 0, 1, 1, 2, 4, 10, 22, 60}, 0.80);
+
+    private final String name;
+    private final double[] cumulative;
+    private final double spareRate;
+
+    public SkillProfile(final String name, final double[] firstBallWeights, final double spareRate) {
+        validateWeights(firstBallWeights);
+        this.name = name;
+        this.cumulative = cumulate(firstBallWeights);
+        this.spareRate = spareRate;
+    }
+
+    public static SkillProfile of(final String name) {
+        return Arrays.stream(new SkillProfile[]{BEGINNER, AMATEUR, PRO})
+                .filter(profile -> profile.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new BowlingException(UNKNOWN_PROFILE_MESSAGE));
+    }
+
+    private static void validateWeights(final double[] weights) {
+        if (weights.length != Pin.MAX_PIN + 1) {
+            throw new BowlingException(WEIGHTS_ERR_MESSAGE);
+        }
+    }
+
+    private static double[] cumulate(final double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    public int firstBall(final SplittableRandom random) {
+        double value = random.nextDouble();
+
+        for (int pins = 0; pins < Pin.MAX_PIN; pins++) {
+            if (value < cumulative[pins]) {
+                return pins;
+            }
+        }
+        return Pin.MAX_PIN;
+    }
+
+    public int secondBall(final SplittableRandom random, final int remaining) {
+        if (remaining == 0 || random.nextDouble() < spareRate) {
+            return remaining;
+        }
+        return random.nextInt(remaining);
+    }
+
+    /**
+     * 이 프로필로 한 게임을 끝까지 던진 투구 배열. 10 프레임 스트라이크나 스페어는 보너스 투구 하나를 더 던진다.
+     */
+    public byte[] randomGame(final SplittableRandom random) {
+        byte[] rolls = new byte[PackedRolls.MAX_ROLLS];
+        int count = 0;
+
+        for (int frame = 1; frame < Frame.MAX_FRAME_NUMBER; frame++) {
+            int first = firstBall(random);
+            rolls[count++] = (byte) first;
+            if (first != Pin.MAX_PIN) {
+                rolls[count++] = (byte) secondBall(random, Pin.MAX_PIN - first);
+            }
+        }
+
+        int first = firstBall(random);
+        rolls[count++] = (byte) first;
+        if (first == Pin.MAX_PIN) {
+            rolls[count++] = (byte) firstBall(random);
+            return Arrays.copyOf(rolls, count);
+        }
+
+        int second = secondBall(random, Pin.MAX_PIN - first);
+        rolls[count++] = (byte) second;
+        if (first + second == Pin.MAX_PIN) {
+            rolls[count++] = (byte) firstBall(random);
+        }
+        return Arrays.copyOf(rolls, count);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
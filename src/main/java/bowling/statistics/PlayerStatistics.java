@@ -0,0 +1,63 @@
+package bowling.statistics;
+
+import bowling.collection.ConcurrentIntObjectMap;
+import bowling.domain.PlayerRegistry;
+import bowling.domain.frame.FrameResult;
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 프레임이 끝날 때마다 플레이어의 striped cell 에 결과를 더한다. 레인 스레드는 CAS 에 실패해도 기다리지 않고
+ * 다른 cell 로 옮겨가며, 조회는 cell 마다 seqlock 으로 읽은 값을 합쳐 이벤트 단위로 일관된 snapshot 을 만든다.
+ */
+@Component
+public class PlayerStatistics implements LaneListener {
+
+    private final ConcurrentIntObjectMap<PlayerStats> stats = new ConcurrentIntObjectMap<>();
+    private final PlayerRegistry playerRegistry;
+    private final int stripes;
+
+    public PlayerStatistics(final PlayerRegistry playerRegistry,
+                            @Value("${bowling.statistics.stripes:4}") final int stripes) {
+        this.playerRegistry = playerRegistry;
+        this.stripes = Integer.highestOneBit(Math.max(1, stripes));
+    }
+
+    @Override
+    public void onFrameCompleted(final int laneId, final LaneGame game, final int frameNumber,
+                                 final FrameResult result) {
+        record(playerRegistry.keyOf(game.getGame().getPlayerName()), result);
+    }
+
+    @Override
+    public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+        recordGame(playerRegistry.keyOf(game.getGame().getPlayerName()), totalScore);
+    }
+
+    public void record(final int playerKey, final FrameResult result) {
+        statsOf(playerKey).add(result);
+    }
+
+    public void recordGame(final int playerKey, final int score) {
+        statsOf(playerKey).addGame(score);
+    }
+
+    private PlayerStats statsOf(final int playerKey) {
+        return stats.computeIfAbsent(playerKey, key -> new PlayerStats(stripes));
+    }
+
+    public Optional<PlayerStatsSnapshot> find(final String playerName) {
+        OptionalInt playerKey = playerRegistry.findKey(playerName);
+
+        if (!playerKey.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(stats.get(playerKey.getAsInt()))
+                .map(playerStats -> new PlayerStatsSnapshot(playerName, playerStats.sum()));
+    }
+}
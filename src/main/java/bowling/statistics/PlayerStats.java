@@ -0,0 +1,49 @@
+package bowling.statistics;
+
+import bowling.domain.frame.FrameResult;
+
+class PlayerStats {
+
+    private static final long PROBE_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final StatsCell[] cells;
+    private final int mask;
+
+    PlayerStats(final int stripes) {
+        this.cells = new StatsCell[stripes];
+        this.mask = stripes - 1;
+
+        for (int i = 0; i < stripes; i++) {
+            cells[i] = new StatsCell();
+        }
+    }
+
+    void add(final FrameResult result) {
+        int index = probe();
+
+        while (!cells[index & mask].tryAdd(result)) {
+            index++;
+        }
+    }
+
+    void addGame(final int score) {
+        int index = probe();
+
+        while (!cells[index & mask].tryAddGame(score)) {
+            index++;
+        }
+    }
+
+    private int probe() {
+        return (int) (Thread.currentThread().getId() * PROBE_MULTIPLIER >>> 32);
+    }
+
+    long[] sum() {
+        long[] sums = new long[StatsCell.SIZE];
+
+        for (StatsCell cell : cells) {
+            cell.readInto(sums);
+        }
+        return sums;
+    }
+}
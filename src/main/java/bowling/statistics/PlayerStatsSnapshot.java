@@ -0,0 +1,71 @@
+package bowling.statistics;
+
+import bowling.domain.frame.FrameResult;
+
+public class PlayerStatsSnapshot {
+
+    private final String playerName;
+    private final long strikes;
+    private final long spares;
+    private final long misses;
+    private final long gutters;
+    private final long games;
+    private final long totalScore;
+
+    PlayerStatsSnapshot(final String playerName, final long[] counts) {
+        this.playerName = playerName;
+        this.strikes = counts[FrameResult.STRIKE.ordinal()];
+        this.spares = counts[FrameResult.SPARE.ordinal()];
+        this.misses = counts[FrameResult.MISS.ordinal()];
+        this.gutters = counts[FrameResult.GUTTER.ordinal()];
+        this.games = counts[StatsCell.GAMES];
+        this.totalScore = counts[StatsCell.TOTAL_SCORE];
+    }
+
+    private static double ratio(final long count, final long total) {
+        if (total == 0) {
+            return 0;
+        }
+        return (double) count / total;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public long getFrames() {
+        return strikes + spares + misses + gutters;
+    }
+
+    public long getStrikes() {
+        return strikes;
+    }
+
+    public long getSpares() {
+        return spares;
+    }
+
+    public long getOpenFrames() {
+        return misses + gutters;
+    }
+
+    public long getGutters() {
+        return gutters;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getStrikeRate() {
+        return ratio(strikes, getFrames());
+    }
+
+    public double getSpareRate() {
+        return ratio(spares, getFrames());
+    }
+
+    public double getAverage() {
+        return ratio(totalScore, games);
+    }
+}
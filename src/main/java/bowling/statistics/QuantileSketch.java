@@ -0,0 +1,162 @@
+package bowling.statistics;
+
+import bowling.exception.BowlingException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실수 값의 분위를 상대 오차 안에서 구하는 log bucket sketch. 값 x 는 ceil(log_γ x) 칸에 세며
+ * γ = (1 + α) / (1 - α) 이므로 칸의 대표값은 실제 값과 α 이상 다르지 않다. 칸 범위를 [minValue, maxValue] 로
+ * 고정해 AtomicLongArray 하나로 두므로 락 없이 기록하고, 설정이 같은 sketch 끼리는 칸을 더해 합친다.
+ * minValue 보다 작은 값은 0 칸, maxValue 보다 큰 값은 마지막 칸에 센다.
+ */
+public class QuantileSketch {
+
+    private static final String NEGATIVE_VALUE_MESSAGE = "음수는 기록할 수 없습니다.";
+    private static final String SKETCH_RANGE_MESSAGE = "상대 오차는 0~1, 범위는 0 < minValue < maxValue 여야 합니다.";
+    private static final String MERGE_MESSAGE = "설정이 다른 sketch 는 합칠 수 없습니다.";
+    private static final String QUANTILE_RANGE_MESSAGE = "분위는 0~1 사이 여야 합니다.";
+    private static final String CORRUPT_MESSAGE = "손상된 sketch 데이터 입니다.";
+    private static final int ZERO_BUCKET = 0;
+
+    private final double relativeAccuracy;
+    private final double minValue;
+    private final double maxValue;
+    private final double gamma;
+    private final double logGamma;
+    private final int indexOffset;
+    private final AtomicLongArray counts;
+
+    public QuantileSketch(final double relativeAccuracy, final double minValue, final double maxValue) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1 || minValue <= 0 || maxValue <= minValue) {
+            throw new BowlingException(SKETCH_RANGE_MESSAGE);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.indexOffset = index(minValue) - 1;
+        this.counts = new AtomicLongArray(index(maxValue) - indexOffset + 1);
+    }
+
+    private int index(final double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private int bucketOf(final double value) {
+        if (value < minValue) {
+            return ZERO_BUCKET;
+        }
+        return Math.min(index(value) - indexOffset, counts.length() - 1);
+    }
+
+    private double valueOf(final int bucket) {
+        if (bucket == ZERO_BUCKET) {
+            return 0;
+        }
+        return 2 * Math.pow(gamma, bucket + indexOffset) / (gamma + 1);
+    }
+
+    public void add(final double value) {
+        if (value < 0 || Double.isNaN(value)) {
+            throw new BowlingException(NEGATIVE_VALUE_MESSAGE);
+        }
+        counts.getAndIncrement(bucketOf(value));
+    }
+
+    public void merge(final QuantileSketch other) {
+        if (!isCompatible(other)) {
+            throw new BowlingException(MERGE_MESSAGE);
+        }
+
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            long count = other.counts.get(bucket);
+            if (count != 0) {
+                counts.getAndAdd(bucket, count);
+            }
+        }
+    }
+
+    private boolean isCompatible(final QuantileSketch other) {
+        return relativeAccuracy == other.relativeAccuracy
+                && minValue == other.minValue
+                && maxValue == other.maxValue;
+    }
+
+    public long count() {
+        long count = 0;
+
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    public double quantile(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new BowlingException(QUANTILE_RANGE_MESSAGE);
+        }
+
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            count += snapshot[bucket];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = 0;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            seen += snapshot[bucket];
+            if (seen > rank) {
+                return valueOf(bucket);
+            }
+        }
+        return valueOf(snapshot.length - 1);
+    }
+
+    public void write(final DataOutput out) throws IOException {
+        out.writeDouble(relativeAccuracy);
+        out.writeDouble(minValue);
+        out.writeDouble(maxValue);
+
+        long[] snapshot = new long[counts.length()];
+        int buckets = 0;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            if (snapshot[bucket] != 0) {
+                buckets++;
+            }
+        }
+
+        out.writeInt(buckets);
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            if (snapshot[bucket] != 0) {
+                out.writeInt(bucket);
+                out.writeLong(snapshot[bucket]);
+            }
+        }
+    }
+
+    public static QuantileSketch read(final DataInput in) throws IOException {
+        QuantileSketch sketch = new QuantileSketch(in.readDouble(), in.readDouble(), in.readDouble());
+        int buckets = in.readInt();
+
+        for (int i = 0; i < buckets; i++) {
+            int bucket = in.readInt();
+            long count = in.readLong();
+            if (bucket < 0 || bucket >= sketch.counts.length() || count < 0) {
+                throw new BowlingException(CORRUPT_MESSAGE);
+            }
+            sketch.counts.getAndAdd(bucket, count);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,74 @@
+package bowling.statistics;
+
+import bowling.domain.frame.Frame;
+import bowling.domain.pin.Pin;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 한 범위(플레이어, 센터)의 게임 점수 분포와 프레임 초구 평균 분포를 함께 들고 있다.
+ * 점수는 301 칸 히스토그램으로 정확히 세고, 초구 평균처럼 연속적인 값은 1% 상대 오차 sketch 로 센다.
+ */
+public class ScoreDistribution {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double MIN_FIRST_BALL_AVERAGE = 0.1;
+    private static final double MAX_FIRST_BALL_AVERAGE = 10;
+
+    private final ScoreHistogram scores;
+    private final QuantileSketch firstBallAverages;
+
+    public ScoreDistribution() {
+        this(new ScoreHistogram(),
+                new QuantileSketch(RELATIVE_ACCURACY, MIN_FIRST_BALL_AVERAGE, MAX_FIRST_BALL_AVERAGE));
+    }
+
+    private ScoreDistribution(final ScoreHistogram scores, final QuantileSketch firstBallAverages) {
+        this.scores = scores;
+        this.firstBallAverages = firstBallAverages;
+    }
+
+    public void add(final int totalScore, final byte[] rolls) {
+        scores.add(totalScore);
+        firstBallAverages.add(firstBallAverage(rolls));
+    }
+
+    static double firstBallAverage(final byte[] rolls) {
+        int pins = 0;
+        int frames = 0;
+
+        for (int roll = 0; roll < rolls.length && frames < Frame.MAX_FRAME_NUMBER; frames++) {
+            pins += rolls[roll];
+            roll += rolls[roll] == Pin.MAX_PIN ? 1 : 2;
+        }
+        return frames == 0 ? 0 : (double) pins / frames;
+    }
+
+    public void merge(final ScoreDistribution other) {
+        scores.merge(other.scores);
+        firstBallAverages.merge(other.firstBallAverages);
+    }
+
+    public ScoreHistogram getScores() {
+        return scores;
+    }
+
+    public QuantileSketch getFirstBallAverages() {
+        return firstBallAverages;
+    }
+
+    public ScoreDistributionSnapshot snapshot(final String name) {
+        return new ScoreDistributionSnapshot(name, scores, firstBallAverages);
+    }
+
+    public void write(final DataOutput out) throws IOException {
+        scores.write(out);
+        firstBallAverages.write(out);
+    }
+
+    public static ScoreDistribution read(final DataInput in) throws IOException {
+        return new ScoreDistribution(ScoreHistogram.read(in), QuantileSketch.read(in));
+    }
+}
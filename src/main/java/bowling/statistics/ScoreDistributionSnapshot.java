@@ -0,0 +1,50 @@
+package bowling.statistics;
+
+public class ScoreDistributionSnapshot {
+
+    private final String name;
+    private final long games;
+    private final double average;
+    private final int median;
+    private final int p90;
+    private final int p99;
+    private final double firstBallMedian;
+
+    ScoreDistributionSnapshot(final String name, final ScoreHistogram scores, final QuantileSketch firstBallAverages) {
+        this.name = name;
+        this.games = scores.count();
+        this.average = scores.mean();
+        this.median = scores.quantile(0.5);
+        this.p90 = scores.quantile(0.9);
+        this.p99 = scores.quantile(0.99);
+        this.firstBallMedian = firstBallAverages.quantile(0.5);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public int getMedian() {
+        return median;
+    }
+
+    public int getP90() {
+        return p90;
+    }
+
+    public int getP99() {
+        return p99;
+    }
+
+    public double getFirstBallMedian() {
+        return firstBallMedian;
+    }
+}
@@ -0,0 +1,60 @@
+package bowling.statistics;
+
+import bowling.collection.ConcurrentIntObjectMap;
+import bowling.domain.PlayerRegistry;
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 끝난 게임을 센터 전체와 플레이어별 분포에 더한다. 분포는 칸마다 원자적으로 세므로 레인 스레드끼리 락이 없고,
+ * 다른 노드에서 받은 분포는 mergeCenter 로 그대로 더한다.
+ */
+@Component
+public class ScoreDistributions implements LaneListener {
+
+    public static final String CENTER = "center";
+
+    private final ScoreDistribution center = new ScoreDistribution();
+    private final ConcurrentIntObjectMap<ScoreDistribution> players = new ConcurrentIntObjectMap<>();
+    private final PlayerRegistry playerRegistry;
+
+    public ScoreDistributions(final PlayerRegistry playerRegistry) {
+        this.playerRegistry = playerRegistry;
+    }
+
+    @Override
+    public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+        record(playerRegistry.keyOf(game.getGame().getPlayerName()), totalScore, game.getRolls());
+    }
+
+    public void record(final int playerKey, final int totalScore, final byte[] rolls) {
+        center.add(totalScore, rolls);
+        players.computeIfAbsent(playerKey, key -> new ScoreDistribution()).add(totalScore, rolls);
+    }
+
+    public void mergeCenter(final ScoreDistribution other) {
+        center.merge(other);
+    }
+
+    public ScoreDistribution getCenter() {
+        return center;
+    }
+
+    public ScoreDistributionSnapshot center() {
+        return center.snapshot(CENTER);
+    }
+
+    public Optional<ScoreDistributionSnapshot> find(final String playerName) {
+        OptionalInt playerKey = playerRegistry.findKey(playerName);
+
+        if (!playerKey.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(players.get(playerKey.getAsInt()))
+                .map(distribution -> distribution.snapshot(playerName));
+    }
+}
@@ -0,0 +1,122 @@
+package bowling.statistics;
+
+import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 0~300 점수별 게임 수를 그대로 센다. 칸마다 원자적으로 더하므로 여러 레인 스레드가 락 없이 기록하고,
+ * 같은 배열끼리 더하면 합쳐지므로 노드 간에는 0 이 아닌 칸만 직렬화해서 주고받는다.
+ */
+public class ScoreHistogram {
+
+    private static final String QUANTILE_RANGE_MESSAGE = "분위는 0~1 사이 여야 합니다.";
+    private static final String NEGATIVE_COUNT_MESSAGE = "게임 수는 음수일 수 없습니다.";
+
+    private final AtomicLongArray counts = new AtomicLongArray(Score.MAX_SCORE + 1);
+
+    public void add(final int score) {
+        add(score, 1);
+    }
+
+    public void add(final int score, final long count) {
+        Score.validateScoreRange(score);
+        if (count < 0) {
+            throw new BowlingException(NEGATIVE_COUNT_MESSAGE);
+        }
+        counts.getAndAdd(score, count);
+    }
+
+    public void merge(final ScoreHistogram other) {
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            long count = other.counts.get(score);
+            if (count != 0) {
+                counts.getAndAdd(score, count);
+            }
+        }
+    }
+
+    public long count(final int score) {
+        return counts.get(score);
+    }
+
+    public long count() {
+        long count = 0;
+
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            count += counts.get(score);
+        }
+        return count;
+    }
+
+    public double mean() {
+        long count = 0;
+        long sum = 0;
+
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            long scoreCount = counts.get(score);
+            count += scoreCount;
+            sum += scoreCount * score;
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public int quantile(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new BowlingException(QUANTILE_RANGE_MESSAGE);
+        }
+
+        long[] snapshot = new long[Score.MAX_SCORE + 1];
+        long count = 0;
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            snapshot[score] = counts.get(score);
+            count += snapshot[score];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = 0;
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            seen += snapshot[score];
+            if (seen > rank) {
+                return score;
+            }
+        }
+        return Score.MAX_SCORE;
+    }
+
+    public void write(final DataOutput out) throws IOException {
+        long[] snapshot = new long[Score.MAX_SCORE + 1];
+        int buckets = 0;
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            snapshot[score] = counts.get(score);
+            if (snapshot[score] != 0) {
+                buckets++;
+            }
+        }
+
+        out.writeShort(buckets);
+        for (int score = 0; score <= Score.MAX_SCORE; score++) {
+            if (snapshot[score] != 0) {
+                out.writeShort(score);
+                out.writeLong(snapshot[score]);
+            }
+        }
+    }
+
+    public static ScoreHistogram read(final DataInput in) throws IOException {
+        ScoreHistogram histogram = new ScoreHistogram();
+        int buckets = in.readShort();
+
+        for (int i = 0; i < buckets; i++) {
+            histogram.add(in.readShort(), in.readLong());
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,66 @@
+package bowling.statistics;
+
+import bowling.domain.frame.FrameResult;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * seqlock 으로 보호되는 카운터 묶음. 쓰기는 sequence 를 홀수로 CAS 한 스레드만 하며, 실패한 스레드는
+ * 기다리지 않고 다른 cell 을 고른다. 읽기는 sequence 가 바뀌지 않은 구간의 값만 사용한다.
+ */
+class StatsCell {
+
+    static final int GAMES = FrameResult.values().length;
+    static final int TOTAL_SCORE = GAMES + 1;
+    static final int SIZE = TOTAL_SCORE + 1;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+
+    boolean tryAdd(final FrameResult result) {
+        if (!tryBegin()) {
+            return false;
+        }
+
+        increase(result.ordinal(), 1);
+        sequence.incrementAndGet();
+        return true;
+    }
+
+    boolean tryAddGame(final int score) {
+        if (!tryBegin()) {
+            return false;
+        }
+
+        increase(GAMES, 1);
+        increase(TOTAL_SCORE, score);
+        sequence.incrementAndGet();
+        return true;
+    }
+
+    private boolean tryBegin() {
+        long current = sequence.get();
+        return (current & 1) == 0 && sequence.compareAndSet(current, current + 1);
+    }
+
+    private void increase(final int index, final long delta) {
+        counts.lazySet(index, counts.get(index) + delta);
+    }
+
+    void readInto(final long[] sums) {
+        long[] read = new long[SIZE];
+        long before;
+
+        do {
+            before = sequence.get();
+            for (int i = 0; i < SIZE; i++) {
+                read[i] = counts.get(i);
+            }
+        } while ((before & 1) != 0 || sequence.get() != before);
+
+        for (int i = 0; i < SIZE; i++) {
+            sums[i] += read[i];
+        }
+    }
+}
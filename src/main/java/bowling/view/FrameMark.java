@@ -0,0 +1,59 @@
+package bowling.view;
+
+import bowling.domain.frame.FinalFrame;
+import bowling.domain.frame.Frame;
+import bowling.domain.pin.Pins;
+
+import java.util.List;
+
+public class FrameMark {
+
+    private static final String STRIKE = "X";
+    private static final String SPARE = "/";
+    private static final String GUTTER = "-";
+    private static final String DELIMITER = "|";
+    private static final String SPLIT_FORMAT = "(%d)";
+
+    private FrameMark() {
+    }
+
+    public static String of(final Frame frame) {
+        List<Pins> pins = frame.getPins();
+
+        if (frame instanceof FinalFrame && pins.get(1) != null) {
+            return of(pins.get(0)) + DELIMITER + of(pins.get(1));
+        }
+
+        return of(pins.get(0));
+    }
+
+    public static String of(final Pins pins) {
+        if (pins.isStrike()) {
+            return STRIKE;
+        }
+
+        if (pins.isSpare()) {
+            return first(pins) + DELIMITER + SPARE;
+        }
+
+        if (pins.isRunning()) {
+            return first(pins);
+        }
+
+        return first(pins) + DELIMITER + pin(pins.getSecondDownPin());
+    }
+
+    private static String first(final Pins pins) {
+        if (pins.isSplit()) {
+            return String.format(SPLIT_FORMAT, pins.getFirstDownPin());
+        }
+        return pin(pins.getFirstDownPin());
+    }
+
+    private static String pin(final int downPin) {
+        if (downPin == 0) {
+            return GUTTER;
+        }
+        return String.valueOf(downPin);
+    }
+}
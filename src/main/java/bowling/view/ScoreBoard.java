@@ -0,0 +1,88 @@
+package bowling.view;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.frame.Frame;
+import bowling.domain.frame.state.Ready;
+import bowling.domain.pin.PinMask;
+import bowling.domain.pin.Pins;
+import bowling.domain.score.Score;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ScoreBoard {
+
+    private static final String NO_LEAVE = "";
+
+    private final String playerName;
+    private final List<String> marks;
+    private final List<String> leaves;
+    private final List<Integer> scores;
+
+    private ScoreBoard(final String playerName, final List<String> marks, final List<String> leaves,
+                       final List<Integer> scores) {
+        this.playerName = playerName;
+        this.marks = Collections.unmodifiableList(marks);
+        this.leaves = Collections.unmodifiableList(leaves);
+        this.scores = Collections.unmodifiableList(scores);
+    }
+
+    public static ScoreBoard of(final BowlingGame game) {
+        List<String> marks = new ArrayList<>(Frame.MAX_FRAME_NUMBER);
+        List<String> leaves = new ArrayList<>(Frame.MAX_FRAME_NUMBER);
+        List<Integer> scores = new ArrayList<>(Frame.MAX_FRAME_NUMBER);
+        Frame frame = game.getFirstFrame();
+
+        if (frame.getState() instanceof Ready) {
+            return new ScoreBoard(game.getPlayerName(), marks, leaves, scores);
+        }
+
+        boolean settled = true;
+        int total = 0;
+
+        while (frame != null) {
+            marks.add(FrameMark.of(frame));
+            leaves.add(leaveOf(frame.getPins().get(0)));
+
+            boolean finish = frame.isFinish();
+            int score = finish ? frame.currentScore() : 0;
+            settled = settled && finish && !Score.canAddNextScore(score);
+            if (settled) {
+                total += Score.scoreOf(score);
+                scores.add(total);
+            }
+
+            frame = frame.getNext();
+        }
+
+        return new ScoreBoard(game.getPlayerName(), marks, leaves, scores);
+    }
+
+    private static String leaveOf(final Pins pins) {
+        if (!pins.hasFirstLeave()) {
+            return NO_LEAVE;
+        }
+        return PinMask.toString(pins.getFirstLeave());
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public List<String> getMarks() {
+        return marks;
+    }
+
+    public List<String> getLeaves() {
+        return leaves;
+    }
+
+    public List<Integer> getScores() {
+        return scores;
+    }
+
+    public boolean isFinish() {
+        return scores.size() == Frame.MAX_FRAME_NUMBER;
+    }
+}
@@ -0,0 +1,21 @@
+package bowling.web;
+
+public class GameRequest {
+
+    private String player;
+
+    public GameRequest() {
+    }
+
+    public GameRequest(final String player) {
+        this.player = player;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(final String player) {
+        this.player = player;
+    }
+}
@@ -0,0 +1,87 @@
+package bowling.web;
+
+import bowling.domain.PlayerRegistry;
+import bowling.exception.BowlingException;
+import bowling.lane.Lane;
+import bowling.lane.LaneRegistry;
+import bowling.view.ScoreBoard;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/lanes/{laneId}")
+public class LaneController {
+
+    private final LaneRegistry laneRegistry;
+    private final PlayerRegistry playerRegistry;
+    private final ScoreBoardBroadcaster broadcaster;
+
+    public LaneController(final LaneRegistry laneRegistry, final PlayerRegistry playerRegistry,
+                          final ScoreBoardBroadcaster broadcaster) {
+        this.laneRegistry = laneRegistry;
+        this.playerRegistry = playerRegistry;
+        this.broadcaster = broadcaster;
+    }
+
+    @PostMapping("/games")
+    public Mono<ScoreBoard> start(@PathVariable final int laneId, @RequestBody final GameRequest request) {
+        return Mono.fromFuture(laneRegistry.getOrCreate(laneId)
+                .start(playerRegistry.intern(request.getPlayer())));
+    }
+
+    @PostMapping("/rolls")
+    public Mono<ScoreBoard> play(@PathVariable final int laneId, @RequestBody final RollRequest request) {
+        Lane lane = laneRegistry.getOrCreate(laneId);
+
+        if (request.getStanding() != null) {
+            return Mono.fromFuture(lane.playMask(request.getStanding()));
+        }
+        return Mono.fromFuture(lane.play(request.getPins()));
+    }
+
+    @GetMapping("/scoreboard")
+    public Mono<ScoreBoard> scoreBoard(@PathVariable final int laneId) {
+        return Mono.justOrEmpty(laneRegistry.find(laneId)
+                .map(lane -> lane.getScoreBoard()))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    @GetMapping("/scoreboard/stream")
+    public Mono<Void> stream(@PathVariable final int laneId, final ServerHttpResponse response) {
+        Optional<Lane> lane = laneRegistry.find(laneId);
+
+        if (!lane.isPresent()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND));
+        }
+
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        response.getHeaders().setCacheControl(CacheControl.noCache());
+        DataBufferFactory bufferFactory = response.bufferFactory();
+
+        return response.writeAndFlushWith(broadcaster.stream(laneId, lane.get()::getScoreBoard)
+                .map(event -> Mono.just(bufferFactory.wrap(event))));
+    }
+
+    @ExceptionHandler(BowlingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleBowlingException(final BowlingException e) {
+        return Collections.singletonMap("message", e.getMessage());
+    }
+}
@@ -0,0 +1,79 @@
+package bowling.web;
+
+import bowling.simulation.SkillProfile;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 BowlingLaneApplication 에 레인별로 게임을 만들고 투구를 보내 초당 처리량을 출력한다.
+ * 인자 : [baseUrl] [lanes] [gamesPerLane]
+ */
+public class LaneLoadGenerator {
+
+    private static final SkillProfile PROFILE = SkillProfile.AMATEUR;
+
+    private final HttpClient client;
+    private final LongAdder rolls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public LaneLoadGenerator(final String baseUrl, final int connections) {
+        this.client = HttpClient.create(ConnectionProvider.fixed("lane-load", connections))
+                .baseUrl(baseUrl)
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    public static void main(String[] args) {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int lanes = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int gamesPerLane = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        LaneLoadGenerator generator = new LaneLoadGenerator(baseUrl, lanes);
+        long start = System.nanoTime();
+        generator.run(lanes, gamesPerLane);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("lanes=%d games=%d rolls=%d errors=%d elapsed=%.1fs throughput=%.0f rolls/s%n",
+                lanes, lanes * gamesPerLane, generator.rolls.sum(), generator.errors.sum(), seconds,
+                generator.rolls.sum() / seconds);
+    }
+
+    public void run(final int lanes, final int gamesPerLane) {
+        SplittableRandom random = new SplittableRandom();
+
+        Flux.range(1, lanes)
+                .flatMap(lane -> playLane(lane, gamesPerLane, random.split()), lanes)
+                .blockLast();
+    }
+
+    private Flux<Integer> playLane(final int lane, final int games, final SplittableRandom random) {
+        return Flux.range(0, games)
+                .concatMap(game -> post(lane, "/games", "{\"player\":\"L" + (lane % 10) + "P\"}")
+                        .thenMany(playGame(lane, PROFILE.randomGame(random))));
+    }
+
+    private Flux<Integer> playGame(final int lane, final byte[] game) {
+        return Flux.range(0, game.length)
+                .concatMap(roll -> post(lane, "/rolls", "{\"pins\":" + game[roll] + "}")
+                        .doOnNext(status -> rolls.increment()));
+    }
+
+    private Mono<Integer> post(final int lane, final String path, final String body) {
+        return client.post()
+                .uri("/lanes/" + lane + path)
+                .send(ByteBufFlux.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.then(Mono.just(response.status().code())))
+                .doOnNext(status -> {
+                    if (status != 200) {
+                        errors.increment();
+                    }
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package bowling.web;
+
+import bowling.exception.BowlingException;
+import bowling.leaderboard.Leaderboard;
+import bowling.leaderboard.LeaderboardEntry;
+import bowling.leaderboard.RecentLeaderboard;
+import bowling.leaderboard.RecentWindow;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/leaderboard")
+public class LeaderboardController {
+
+    private final Leaderboard leaderboard;
+    private final RecentLeaderboard recentLeaderboard;
+
+    public LeaderboardController(final Leaderboard leaderboard, final RecentLeaderboard recentLeaderboard) {
+        this.leaderboard = leaderboard;
+        this.recentLeaderboard = recentLeaderboard;
+    }
+
+    @GetMapping
+    public Mono<List<LeaderboardEntry>> top(@RequestParam(defaultValue = "10") final int size) {
+        return Mono.fromSupplier(() -> leaderboard.top(size));
+    }
+
+    @GetMapping("/players/{playerName}")
+    public Mono<LeaderboardEntry> player(@PathVariable final String playerName) {
+        return Mono.justOrEmpty(leaderboard.find(playerName))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    @GetMapping("/recent/{window}")
+    public Mono<List<LeaderboardEntry>> recentTop(@PathVariable final String window,
+                                                  @RequestParam(defaultValue = "10") final int size) {
+        return Mono.fromSupplier(() -> recentLeaderboard.top(RecentWindow.of(window), size));
+    }
+
+    @GetMapping("/recent/{window}/rank")
+    public Mono<Long> recentRank(@PathVariable final String window, @RequestParam final int score) {
+        return Mono.fromSupplier(() -> recentLeaderboard.rank(RecentWindow.of(window), score));
+    }
+
+    @ExceptionHandler(BowlingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleBowlingException(final BowlingException e) {
+        return Collections.singletonMap("message", e.getMessage());
+    }
+}
@@ -0,0 +1,38 @@
+package bowling.web;
+
+import bowling.exception.BowlingException;
+import bowling.statistics.PlayerStatistics;
+import bowling.statistics.PlayerStatsSnapshot;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+
+@RestController
+public class PlayerStatisticsController {
+
+    private final PlayerStatistics playerStatistics;
+
+    public PlayerStatisticsController(final PlayerStatistics playerStatistics) {
+        this.playerStatistics = playerStatistics;
+    }
+
+    @GetMapping("/players/{playerName}/stats")
+    public Mono<PlayerStatsSnapshot> stats(@PathVariable final String playerName) {
+        return Mono.justOrEmpty(playerStatistics.find(playerName))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    @ExceptionHandler(BowlingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleBowlingException(final BowlingException e) {
+        return Collections.singletonMap("message", e.getMessage());
+    }
+}
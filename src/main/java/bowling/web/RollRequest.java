@@ -0,0 +1,30 @@
+package bowling.web;
+
+public class RollRequest {
+
+    private int pins;
+    private Integer standing;
+
+    public RollRequest() {
+    }
+
+    public RollRequest(final int pins) {
+        this.pins = pins;
+    }
+
+    public int getPins() {
+        return pins;
+    }
+
+    public void setPins(final int pins) {
+        this.pins = pins;
+    }
+
+    public Integer getStanding() {
+        return standing;
+    }
+
+    public void setStanding(final Integer standing) {
+        this.standing = standing;
+    }
+}
@@ -0,0 +1,133 @@
+package bowling.web;
+
+import bowling.lane.LaneGame;
+import bowling.lane.LaneListener;
+import bowling.view.ScoreBoard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.ReplayProcessor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 레인의 점수판이 바뀔 때마다 SSE 이벤트 하나를 한번만 직렬화하고, 같은 byte[] 를 모든 구독자에게 나눠준다.
+ * 구독자마다 최신 이벤트 하나만 보관하므로 느린 클라이언트는 중간 상태를 건너뛰고 최신 점수판을 받는다.
+ * 채널은 구독자가 있는 동안만 유지되며, 마지막 구독자가 떠나면 제거된다.
+ */
+@Component
+public class ScoreBoardBroadcaster implements LaneListener {
+
+    private static final byte[] EVENT_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final int CLOSED = -1;
+
+    private final ConcurrentMap<Integer, Channel> channels = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public ScoreBoardBroadcaster(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onUpdate(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+        Channel channel = channels.get(laneId);
+
+        if (channel != null) {
+            channel.publish(encode(scoreBoard));
+        }
+    }
+
+    /**
+     * 구독을 시작할 때 채널이 없으면 만들고, 아직 이벤트가 없으면 current 로 현재 점수판을 채운다.
+     */
+    public Flux<byte[]> stream(final int laneId, final Supplier<ScoreBoard> current) {
+        return Flux.defer(() -> {
+            Channel channel = acquire(laneId);
+            channel.seed(current);
+
+            return channel.processor
+                    .onBackpressureLatest()
+                    .doFinally(signal -> release(laneId, channel));
+        });
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    private Channel acquire(final int laneId) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(laneId, id -> new Channel());
+
+            if (channel.retain()) {
+                return channel;
+            }
+            channels.remove(laneId, channel);
+        }
+    }
+
+    private void release(final int laneId, final Channel channel) {
+        if (channel.release()) {
+            channels.remove(laneId, channel);
+        }
+    }
+
+    private byte[] encode(final ScoreBoard scoreBoard) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            out.write(EVENT_PREFIX);
+            objectMapper.writeValue(out, scoreBoard);
+            out.write(EVENT_SUFFIX);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class Channel {
+        private final ReplayProcessor<byte[]> processor = ReplayProcessor.cacheLast();
+        private final FluxSink<byte[]> sink = processor.sink();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private boolean published;
+
+        private synchronized void publish(final byte[] event) {
+            published = true;
+            sink.next(event);
+        }
+
+        private synchronized void seed(final Supplier<ScoreBoard> current) {
+            if (published) {
+                return;
+            }
+
+            ScoreBoard scoreBoard = current.get();
+            if (scoreBoard != null) {
+                publish(encode(scoreBoard));
+            }
+        }
+
+        private boolean retain() {
+            int count;
+            do {
+                count = subscribers.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+            } while (!subscribers.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        private boolean release() {
+            return subscribers.decrementAndGet() == 0 && subscribers.compareAndSet(0, CLOSED);
+        }
+    }
+}
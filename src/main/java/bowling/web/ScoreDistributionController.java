@@ -0,0 +1,43 @@
+package bowling.web;
+
+import bowling.exception.BowlingException;
+import bowling.statistics.ScoreDistributionSnapshot;
+import bowling.statistics.ScoreDistributions;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+
+@RestController
+public class ScoreDistributionController {
+
+    private final ScoreDistributions scoreDistributions;
+
+    public ScoreDistributionController(final ScoreDistributions scoreDistributions) {
+        this.scoreDistributions = scoreDistributions;
+    }
+
+    @GetMapping("/distribution")
+    public Mono<ScoreDistributionSnapshot> center() {
+        return Mono.just(scoreDistributions.center());
+    }
+
+    @GetMapping("/players/{playerName}/distribution")
+    public Mono<ScoreDistributionSnapshot> player(@PathVariable final String playerName) {
+        return Mono.justOrEmpty(scoreDistributions.find(playerName))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    @ExceptionHandler(BowlingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleBowlingException(final BowlingException e) {
+        return Collections.singletonMap("message", e.getMessage());
+    }
+}
@@ -7,6 +7,7 @@ import qna.UnAuthorizedException;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_answer_question_deleted", columnList = "question_id, deleted, id"))
 public class Answer extends AbstractEntity {
     @ManyToOne(optional = false)
     @JoinColumn(foreignKey = @ForeignKey(name = "fk_answer_writer"))
@@ -17,10 +18,14 @@ public class Answer extends AbstractEntity {
     private Question question;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     private boolean deleted = false;
 
+    @Version
+    private Long version;
+
     public Answer() {
     }
 
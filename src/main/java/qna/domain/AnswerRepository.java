@@ -1,6 +1,8 @@
 package qna.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +11,11 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByQuestionAndDeletedFalse(Question question);
 
     Optional<Answer> findByIdAndDeletedFalse(Long id);
+
+    @Query("select a.id as id, a.contents as contents, w.name as writerName, " +
+            "a.createdAt as createdAt, a.updatedAt as updatedAt " +
+            "from Answer a join a.writer w " +
+            "where a.question.id = :questionId and a.deleted = false " +
+            "order by a.id asc")
+    List<AnswerSummary> findSummariesByQuestionIdAndDeletedFalse(@Param("questionId") Long questionId);
 }
@@ -0,0 +1,15 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+public interface AnswerSummary {
+    Long getId();
+
+    String getContents();
+
+    String getWriterName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
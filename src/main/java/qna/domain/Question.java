@@ -8,11 +8,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_question_deleted", columnList = "deleted, id"))
 public class Question extends AbstractEntity {
     @Column(length = 100, nullable = false)
     private String title;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     @ManyToOne
@@ -24,6 +26,9 @@ public class Question extends AbstractEntity {
 
     private boolean deleted = false;
 
+    @Version
+    private Long version;
+
     public Question() {
     }
 
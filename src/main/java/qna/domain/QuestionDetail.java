@@ -0,0 +1,17 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+public interface QuestionDetail {
+    Long getId();
+
+    String getTitle();
+
+    String getContents();
+
+    String getWriterName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -1,6 +1,11 @@
 package qna.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +14,22 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByDeletedFalse();
 
     Optional<Question> findByIdAndDeletedFalse(Long id);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select q from Question q where q.id = :id and q.deleted = false")
+    Optional<Question> findForAnswerByIdAndDeletedFalse(@Param("id") Long id);
+
+    @Query("select q.id as id, q.title as title, w.name as writerName, count(a.id) as answerCount, " +
+            "q.createdAt as createdAt, q.updatedAt as updatedAt " +
+            "from Question q left join q.writer w left join q.answers.answers a on a.deleted = false " +
+            "where q.deleted = false " +
+            "group by q.id, q.title, w.name, q.createdAt, q.updatedAt " +
+            "order by q.id desc")
+    List<QuestionSummary> findSummariesByDeletedFalse();
+
+    @Query("select q.id as id, q.title as title, q.contents as contents, w.name as writerName, " +
+            "q.createdAt as createdAt, q.updatedAt as updatedAt " +
+            "from Question q left join q.writer w " +
+            "where q.id = :id and q.deleted = false")
+    Optional<QuestionDetail> findDetailByIdAndDeletedFalse(@Param("id") Long id);
 }
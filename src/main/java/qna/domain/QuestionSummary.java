@@ -0,0 +1,17 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+public interface QuestionSummary {
+    Long getId();
+
+    String getTitle();
+
+    String getWriterName();
+
+    long getAnswerCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
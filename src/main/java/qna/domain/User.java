@@ -4,13 +4,16 @@ import qna.UnAuthorizedException;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = @Index(name = "uk_user_user_id", columnList = "user_id", unique = true))
 public class User extends AbstractEntity {
     public static final GuestUser GUEST_USER = new GuestUser();
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String userId;
 
     @Column(nullable = false)
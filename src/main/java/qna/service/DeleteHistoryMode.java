@@ -0,0 +1,5 @@
+package qna.service;
+
+public enum DeleteHistoryMode {
+    SYNC, ASYNC;
+}
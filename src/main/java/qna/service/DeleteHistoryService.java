@@ -1,12 +1,15 @@
 package qna.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import qna.domain.DeleteHistory;
 import qna.domain.DeleteHistoryRepository;
 
 import javax.annotation.Resource;
+import java.util.Collections;
 import java.util.List;
 
 @Service("deleteHistoryService")
@@ -14,13 +17,38 @@ public class DeleteHistoryService {
     @Resource(name = "deleteHistoryRepository")
     private DeleteHistoryRepository deleteHistoryRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Resource(name = "deleteHistoryWriter")
+    private DeleteHistoryWriter deleteHistoryWriter;
+
+    @Value("${qna.delete-history.mode:ASYNC}")
+    private DeleteHistoryMode mode = DeleteHistoryMode.ASYNC;
+
+    @Transactional
     public void saveAll(List<DeleteHistory> deleteHistories) {
-        deleteHistoryRepository.saveAll(deleteHistories);
+        if (mode == DeleteHistoryMode.SYNC) {
+            deleteHistoryRepository.saveAll(deleteHistories);
+            return;
+        }
+
+        enqueueAfterCommit(deleteHistories);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void save(DeleteHistory deleteHistory) {
-        deleteHistoryRepository.save(deleteHistory);
+        saveAll(Collections.singletonList(deleteHistory));
+    }
+
+    private void enqueueAfterCommit(List<DeleteHistory> deleteHistories) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteHistoryWriter.enqueue(deleteHistories);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                deleteHistoryWriter.enqueue(deleteHistories);
+            }
+        });
     }
-}
\ No newline at end of file
+}
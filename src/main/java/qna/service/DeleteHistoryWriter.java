@@ -0,0 +1,201 @@
+package qna.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 삭제 이력을 bounded queue 에 모았다가 전용 writer 스레드에서 batch 로 저장한다.
+ * enqueue 는 afterCommit 에서 불리므로 저장도, 예외도 호출한 스레드로 돌려주지 않는다. 큐가 offerTimeout 안에 비지 않으면
+ * 넘친 이력을 한 batch 로 묶어 bounded overflow 스레드에 넘기고, 그 대기열마저 차 있으면 실패 건수로 남기고 로그를 쓴다.
+ * 종료는 enqueue 와 같은 lock 으로 running 을 내리므로 종료 뒤 큐에 들어오는 이력은 없고, 남은 이력을 모두 저장한 뒤 멈춘다.
+ * 저장은 MAX_ATTEMPTS 번까지 다시 시도하고, 그래도 실패한 건수는 failedCount 로 드러낸다.
+ */
+@Component("deleteHistoryWriter")
+public class DeleteHistoryWriter {
+    private static final Logger log = LoggerFactory.getLogger(DeleteHistoryWriter.class);
+
+    private static final String THREAD_NAME = "delete-history-writer";
+    private static final String OVERFLOW_THREAD_NAME = "delete-history-overflow";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int OVERFLOW_BATCHES = 64;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final DeleteHistoryRepository deleteHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<DeleteHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Thread writerThread;
+    private final ThreadPoolExecutor overflowExecutor;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public DeleteHistoryWriter(DeleteHistoryRepository deleteHistoryRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${qna.delete-history.queue-capacity:10000}") int queueCapacity,
+                               @Value("${qna.delete-history.batch-size:100}") int batchSize,
+                               @Value("${qna.delete-history.flush-interval-ms:200}") long flushIntervalMillis,
+                               @Value("${qna.delete-history.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.deleteHistoryRepository = deleteHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.writerThread = new Thread(this::run, THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        this.overflowExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(OVERFLOW_BATCHES), runnable -> {
+                    Thread thread = new Thread(runnable, OVERFLOW_THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void enqueue(List<DeleteHistory> deleteHistories) {
+        List<DeleteHistory> overflow = new ArrayList<>();
+
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                overflow.addAll(deleteHistories);
+            } else {
+                offerAll(deleteHistories, overflow);
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        if (!overflow.isEmpty()) {
+            handOff(overflow);
+        }
+    }
+
+    private void handOff(List<DeleteHistory> overflow) {
+        try {
+            overflowExecutor.execute(() -> flush(overflow));
+        } catch (RejectedExecutionException e) {
+            failedCount.addAndGet(overflow.size());
+            log.error("삭제 이력 저장 대기열 초과 : {}", overflow);
+        }
+    }
+
+    private void offerAll(List<DeleteHistory> deleteHistories, List<DeleteHistory> overflow) {
+        boolean interrupted = false;
+        boolean full = false;
+
+        for (DeleteHistory deleteHistory : deleteHistories) {
+            try {
+                full = full || !queue.offer(deleteHistory, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+                full = true;
+            }
+
+            if (full) {
+                overflow.add(deleteHistory);
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                DeleteHistory first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<DeleteHistory> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                stop();
+            }
+        }
+
+        drainRemaining();
+    }
+
+    private void drainRemaining() {
+        List<DeleteHistory> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void flush(List<DeleteHistory> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                save(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    failedCount.addAndGet(batch.size());
+                    log.error("삭제 이력 저장 실패 : {}", batch, e);
+                }
+            }
+        }
+    }
+
+    private void save(List<DeleteHistory> batch) {
+        transactionTemplate.execute(status -> deleteHistoryRepository.saveAll(batch));
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    public long failedCount() {
+        return failedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stop();
+        writerThread.join();
+        drainRemaining();
+        overflowExecutor.shutdown();
+        overflowExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package qna.service;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import javax.persistence.OptimisticLockException;
+
+/**
+ * 트랜잭션 advice 보다 바깥에서 동작해야 매 시도마다 새 트랜잭션에서 엔티티를 다시 읽는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    @Resource(name = "optimisticLockRetryMetrics")
+    private OptimisticLockRetryMetrics metrics;
+
+    public OptimisticLockRetryAspect() {
+    }
+
+    public OptimisticLockRetryAspect(OptimisticLockRetryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Around("@annotation(retryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retryOnOptimisticLock) throws Throwable {
+        int maxAttempts = Math.max(1, retryOnOptimisticLock.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    metrics.recovered();
+                }
+                return result;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                metrics.conflict();
+                if (attempt >= maxAttempts) {
+                    metrics.exhausted();
+                    throw e;
+                }
+
+                log.debug("낙관적 락 충돌, 재시도 {}/{} : {}", attempt, maxAttempts, joinPoint.getSignature());
+                metrics.retry();
+            }
+        }
+    }
+}
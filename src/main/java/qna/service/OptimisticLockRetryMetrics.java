@@ -0,0 +1,52 @@
+package qna.service;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Component("optimisticLockRetryMetrics")
+@ManagedResource(objectName = "qna:type=OptimisticLockRetry")
+public class OptimisticLockRetryMetrics {
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public void conflict() {
+        conflicts.increment();
+    }
+
+    public void retry() {
+        retries.increment();
+    }
+
+    public void recovered() {
+        recovered.increment();
+    }
+
+    public void exhausted() {
+        exhausted.increment();
+    }
+
+    @ManagedAttribute
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    @ManagedAttribute
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    @ManagedAttribute
+    public long getRecovered() {
+        return recovered.sum();
+    }
+
+    @ManagedAttribute
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+}
@@ -30,6 +30,32 @@ public class QnAService {
                 .orElseThrow(NotFoundException::new);
     }
 
+    @Transactional
+    public Answer addAnswer(User loginUser, long questionId, String contents) {
+        Question question = questionRepository.findForAnswerByIdAndDeletedFalse(questionId)
+                .orElseThrow(NotFoundException::new);
+        Answer answer = new Answer(loginUser, question, contents);
+        question.addAnswer(answer);
+        return answerRepository.save(answer);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummary> findQuestionSummaries() {
+        return questionRepository.findSummariesByDeletedFalse();
+    }
+
+    @Transactional(readOnly = true)
+    public QuestionDetail findQuestionDetailById(Long id) {
+        return questionRepository.findDetailByIdAndDeletedFalse(id)
+                .orElseThrow(NotFoundException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnswerSummary> findAnswerSummaries(Long questionId) {
+        return answerRepository.findSummariesByQuestionIdAndDeletedFalse(questionId);
+    }
+
+    @RetryOnOptimisticLock
     @Transactional
     public void deleteQuestion(User loginUser, long questionId) throws CannotDeleteException {
         Question question = findQuestionById(questionId);
@@ -0,0 +1,79 @@
+package bowling.archive;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameArchiveTest {
+
+    private static final byte[] PERFECT = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+    private static final byte[] OPEN = {3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4};
+
+    private Path archive() throws IOException {
+        Path directory = Files.createTempDirectory("game-archive");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    @DisplayName("저장한 게임을 mapping 한 컬럼에서 선수, 총점, 투구로 읽는다")
+    @Test
+    public void read_success() throws Exception {
+        //given
+        Path directory = archive();
+
+        //when
+        try (GameArchiveWriter writer = new GameArchiveWriter(directory, 2)) {
+            writer.append("aaa", PERFECT);
+            writer.append("bbb", OPEN);
+            writer.append("aaa", OPEN);
+        }
+        GameArchiveReader reader = new GameArchiveReader(directory);
+
+        //then
+        assertThat(reader.size()).isEqualTo(3);
+        assertThat(reader.getPlayerKey(1)).isEqualTo(PlayerKey.encode("bbb"));
+        assertThat(reader.getTotal(0)).isEqualTo(290);
+        assertThat(reader.getTotal(1)).isEqualTo(70);
+        assertThat(reader.getRoll(1, 19)).isEqualTo(4);
+        assertThat(reader.average(PlayerKey.encode("aaa"))).isEqualTo(180.0);
+    }
+
+    @DisplayName("mapping 한 투구 컬럼에서 다시 계산한 점수는 저장된 총점과 같다")
+    @Test
+    public void score_success() throws Exception {
+        //given
+        Path directory = archive();
+        try (GameArchiveWriter writer = new GameArchiveWriter(directory)) {
+            writer.append("aaa", PERFECT);
+            writer.append("bbb", OPEN);
+        }
+
+        //when
+        try (GameArchiveWriter writer = new GameArchiveWriter(directory)) {
+            writer.append("ccc", OPEN);
+        }
+        GameArchiveReader reader = new GameArchiveReader(directory);
+
+        //then
+        assertThat(reader.size()).isEqualTo(3);
+        assertThat(reader.score(0)).isEqualTo(290);
+        assertThat(reader.rescoreAll()).isEqualTo(reader.sumTotals());
+        assertThat(reader.bulkRescoreAll(2)).isEqualTo(reader.sumTotals());
+    }
+
+    @DisplayName("끝나지 않은 게임은 저장할 수 없다")
+    @Test
+    public void append_fail_incomplete() throws Exception {
+        try (GameArchiveWriter writer = new GameArchiveWriter(archive())) {
+            assertThatThrownBy(() -> writer.append("aaa", new byte[]{10, 10, 10}))
+                    .isInstanceOf(BowlingException.class);
+        }
+    }
+}
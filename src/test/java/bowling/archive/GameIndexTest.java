@@ -0,0 +1,99 @@
+package bowling.archive;
+
+import bowling.collection.CompressedBitmap;
+import bowling.domain.BowlingGame;
+import bowling.domain.GameEventListener;
+import bowling.domain.Player;
+import bowling.domain.frame.FrameResult;
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static bowling.domain.score.GameFixtures.randomGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameIndexTest {
+
+    private static FrameResult[] results(byte[] rolls) {
+        FrameResult[] results = new FrameResult[10];
+        BowlingGame game = new BowlingGame(new Player("aaa"), new GameEventListener() {
+            @Override
+            public void onFrameCompleted(int frameNumber, FrameResult result) {
+                results[frameNumber - 1] = result;
+            }
+        });
+        for (byte pins : rolls) {
+            game.play(pins);
+        }
+        return results;
+    }
+
+    @DisplayName("보관된 게임의 프레임 결과 색인이 BowlingGame 의 프레임 결과와 같다")
+    @Test
+    public void of_success_sameAsBowlingGame() throws Exception {
+        //given
+        Path directory = Files.createTempDirectory("game-index");
+        directory.toFile().deleteOnExit();
+        SplittableRandom random = new SplittableRandom(19);
+        FrameResult[][] expected = new FrameResult[5_000][];
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(directory)) {
+            for (int game = 0; game < expected.length; game++) {
+                byte[] rolls = randomGame(random);
+                expected[game] = results(rolls);
+                writer.append("aaa", rolls);
+            }
+        }
+
+        //when
+        GameIndex index = GameIndex.of(new GameArchiveReader(directory));
+
+        //then
+        assertThat(index.size()).isEqualTo(expected.length);
+        CompressedBitmap turkeys = index.turkey(7);
+        CompressedBitmap finalSpares = index.get(10, FrameResult.SPARE);
+        CompressedBitmap firstOpens = index.open(1);
+        CompressedBitmap[][] byFrame = new CompressedBitmap[10][FrameResult.values().length];
+        for (int frame = 1; frame <= 10; frame++) {
+            for (FrameResult result : FrameResult.values()) {
+                byFrame[frame - 1][result.ordinal()] = index.get(frame, result);
+            }
+        }
+        for (int game = 0; game < expected.length; game++) {
+            for (int frame = 1; frame <= 10; frame++) {
+                assertThat(byFrame[frame - 1][expected[game][frame - 1].ordinal()].contains(game)).isTrue();
+            }
+            assertThat(turkeys.contains(game)).isEqualTo(expected[game][6] == FrameResult.STRIKE
+                    && expected[game][7] == FrameResult.STRIKE && expected[game][8] == FrameResult.STRIKE);
+            assertThat(finalSpares.contains(game)).isEqualTo(expected[game][9] == FrameResult.SPARE);
+            assertThat(firstOpens.contains(game)).isEqualTo(expected[game][0].isOpen());
+        }
+    }
+
+    @DisplayName("조회한 bitmap 을 바꿔도 색인은 바뀌지 않는다")
+    @Test
+    public void get_success_copy() throws Exception {
+        //given
+        GameIndex index = new GameIndex();
+        index.add(0, new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+
+        //when
+        index.get(1, FrameResult.STRIKE).add(5);
+        index.strikes(1, 1).add(6);
+
+        //then
+        assertThat(index.get(1, FrameResult.STRIKE).toArray()).isEqualTo(new int[]{0});
+    }
+
+    @DisplayName("1~10 이 아닌 프레임은 조회할 수 없다")
+    @Test
+    public void get_fail() throws Exception {
+        assertThatThrownBy(() -> new GameIndex().get(11, FrameResult.STRIKE))
+                .isInstanceOf(BowlingException.class);
+    }
+}
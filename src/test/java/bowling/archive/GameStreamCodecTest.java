@@ -0,0 +1,124 @@
+package bowling.archive;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.roll.PackedRolls;
+import bowling.domain.score.RollScorer;
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static bowling.domain.score.GameFixtures.randomGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameStreamCodecTest {
+
+    private static final String[] PLAYERS = {"aaa", "bbb", "ccc"};
+
+    private static ByteBuffer encode(byte[][] games, long[] keys, int blockGames) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GameStreamEncoder encoder = new GameStreamEncoder(out, blockGames)) {
+            for (int i = 0; i < games.length; i++) {
+                encoder.append(keys[i], games[i]);
+            }
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @DisplayName("압축한 게임을 순서대로 풀면 선수와 투구가 같고 게임당 12 byte 보다 작다")
+    @Test
+    public void next_success() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(23);
+        byte[][] games = new byte[3_000][];
+        long[] keys = new long[games.length];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = randomGame(random);
+            keys[i] = PlayerKey.encode(PLAYERS[i / 100 % PLAYERS.length]);
+        }
+
+        //when
+        ByteBuffer buffer = encode(games, keys, 128);
+        GameStreamDecoder decoder = new GameStreamDecoder(buffer);
+
+        //then
+        assertThat(decoder.size()).isEqualTo(games.length);
+        assertThat(buffer.limit()).isLessThan(games.length * 12);
+        for (int i = 0; i < games.length; i++) {
+            byte[] rolls = new byte[21];
+            int[] count = new int[1];
+            decoder.next(pins -> rolls[count[0]++] = (byte) pins);
+
+            assertThat(decoder.getPlayerKey()).isEqualTo(keys[i]);
+            assertThat(Arrays.copyOf(rolls, count[0])).isEqualTo(games[i]);
+        }
+        assertThat(decoder.hasNext()).isFalse();
+    }
+
+    @DisplayName("푼 투구를 BowlingGame 에 바로 넘기거나 점수로 바로 계산한다")
+    @Test
+    public void nextScore_success() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(29);
+        byte[][] games = new byte[1_000][];
+        long[] keys = new long[games.length];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = randomGame(random);
+        }
+        ByteBuffer buffer = encode(games, keys, 64);
+
+        //when
+        GameStreamDecoder played = new GameStreamDecoder(buffer);
+        GameStreamDecoder scored = new GameStreamDecoder(buffer);
+
+        //then
+        for (byte[] rolls : games) {
+            BowlingGame game = new BowlingGame(new Player("aaa"));
+            played.next(game::play);
+
+            int expected = RollScorer.score(PackedRolls.pack(rolls, rolls.length));
+            assertThat(game.totalScore(10)).isEqualTo(expected);
+            assertThat(scored.nextScore()).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("블록 색인으로 원하는 게임부터 읽는다")
+    @Test
+    public void seek_success() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(31);
+        byte[][] games = new byte[1_000][];
+        long[] keys = new long[games.length];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = randomGame(random);
+            keys[i] = PlayerKey.encode(PLAYERS[random.nextInt(PLAYERS.length)]);
+        }
+        GameStreamDecoder decoder = new GameStreamDecoder(encode(games, keys, 100));
+
+        for (int target : new int[]{999, 0, 100, 457, 300}) {
+            //when
+            decoder.seek(target);
+            int score = decoder.nextScore();
+
+            //then
+            assertThat(decoder.getPlayerKey()).isEqualTo(keys[target]);
+            assertThat(score).isEqualTo(RollScorer.score(PackedRolls.pack(games[target], games[target].length)));
+        }
+    }
+
+    @DisplayName("끝나지 않은 게임은 압축할 수 없고, 형식이 다른 스트림은 풀 수 없다")
+    @Test
+    public void fail() throws Exception {
+        GameStreamEncoder encoder = new GameStreamEncoder(new ByteArrayOutputStream());
+        assertThatThrownBy(() -> encoder.append(0, new byte[]{10, 10}))
+                .isInstanceOf(BowlingException.class);
+        assertThatThrownBy(() -> new GameStreamDecoder(ByteBuffer.allocate(32)))
+                .isInstanceOf(BowlingException.class);
+    }
+}
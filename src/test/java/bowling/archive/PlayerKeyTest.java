@@ -0,0 +1,33 @@
+package bowling.archive;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerKeyTest {
+
+    @DisplayName("3글자 이름을 long 으로 바꾸고 다시 이름으로 되돌린다")
+    @ParameterizedTest
+    @ValueSource(strings = {"aaa", "PJS", "홍길동", "a1_"})
+    public void encode_success(String name) throws Exception {
+        //when
+        long key = PlayerKey.encode(name);
+
+        //then
+        assertThat(PlayerKey.decode(key)).isEqualTo(name);
+    }
+
+    @DisplayName("3글자가 아닌 이름은 exception")
+    @Test
+    public void encode_fail() throws Exception {
+        //then
+        assertThatThrownBy(
+                () -> PlayerKey.encode("abcd")
+        ).isInstanceOf(BowlingException.class);
+    }
+}
@@ -0,0 +1,183 @@
+package bowling.arena;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.PlayerRegistry;
+import bowling.domain.roll.RollState;
+import bowling.exception.BowlingException;
+import bowling.simulation.SkillProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameArenaTest {
+
+    private final PlayerRegistry playerRegistry = new PlayerRegistry();
+
+    private int nextPins(SkillProfile profile, SplittableRandom random, int state) {
+        int standing = RollState.standingOf(state);
+        if (standing == 10) {
+            return profile.firstBall(random);
+        }
+        return profile.secondBall(random, standing);
+    }
+
+    @DisplayName("slot 위의 게임은 BowlingGame 과 같은 프레임별 누적 점수를 가진다")
+    @Test
+    public void play_success_sameAsBowlingGame() throws Exception {
+        //given
+        GameArena arena = new GameArena(1, playerRegistry);
+        ArenaGame cursor = arena.cursor(0);
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int i = 0; i < 2_000; i++) {
+            int slot = arena.allocate("aaa");
+            cursor.moveTo(slot);
+            BowlingGame game = new BowlingGame(new Player("aaa"));
+
+            //when
+            while (!cursor.isFinish()) {
+                int state = arena.getState(slot);
+                int pins = nextPins(SkillProfile.AMATEUR, random, state);
+                cursor.play(pins);
+                game.play(pins);
+
+                //then
+                for (int frame = 1; frame <= RollState.frameOf(state); frame++) {
+                    assertThat(cursor.totalScore(frame)).isEqualTo(game.totalScore(frame));
+                }
+            }
+            assertThat(game.isFinish()).isTrue();
+            assertThat(cursor.totalScore(10)).isEqualTo(game.totalScore(10));
+            arena.free(slot);
+        }
+    }
+
+    @DisplayName("플레이어 이름과 투구를 slot 에서 그대로 읽는다")
+    @Test
+    public void read_success() throws Exception {
+        //given
+        GameArena arena = new GameArena(4, playerRegistry);
+        int slot = arena.allocate("PJS");
+
+        //when
+        arena.play(slot, 10);
+        arena.play(slot, 7);
+        arena.play(slot, 3);
+
+        //then
+        assertThat(arena.getPlayerName(slot)).isEqualTo("PJS");
+        assertThat(arena.getRollCount(slot)).isEqualTo(3);
+        assertThat(arena.getRoll(slot, 1)).isEqualTo(7);
+        assertThat(arena.totalScore(slot, 1)).isEqualTo(20);
+        assertThat(arena.totalScore(slot, 2)).isEqualTo(30);
+    }
+
+    @DisplayName("잘못된 투구는 exception 이고 slot 은 바뀌지 않는다")
+    @Test
+    public void play_fail() throws Exception {
+        //given
+        GameArena arena = new GameArena(1, playerRegistry);
+        int slot = arena.allocate("aaa");
+        arena.play(slot, 7);
+
+        //then
+        assertThatThrownBy(
+                () -> arena.play(slot, 4)
+        ).isInstanceOf(BowlingException.class);
+        assertThat(arena.getRollCount(slot)).isEqualTo(1);
+    }
+
+    @DisplayName("slot 이 모두 쓰이면 exception 이고 반납한 slot 은 다시 쓴다")
+    @Test
+    public void allocate_fail_full() throws Exception {
+        //given
+        GameArena arena = new GameArena(2, playerRegistry);
+        int first = arena.allocate("aaa");
+        arena.allocate("bbb");
+
+        //when
+        assertThatThrownBy(
+                () -> arena.allocate("ccc")
+        ).isInstanceOf(BowlingException.class);
+        arena.free(first);
+
+        //then
+        assertThat(arena.allocate("ccc")).isEqualTo(first);
+        assertThat(arena.getRollCount(first)).isEqualTo(0);
+        assertThat(arena.liveCount()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 slot 을 두번 반납하거나 범위 밖 slot 을 반납하면 exception 이고 free list 는 그대로다")
+    @Test
+    public void free_fail_doubleFree() throws Exception {
+        //given
+        GameArena arena = new GameArena(2, playerRegistry);
+        int first = arena.allocate("aaa");
+        arena.free(first);
+
+        //then
+        assertThatThrownBy(
+                () -> arena.free(first)
+        ).isInstanceOf(BowlingException.class);
+        assertThatThrownBy(
+                () -> arena.free(1)
+        ).isInstanceOf(BowlingException.class);
+        assertThatThrownBy(
+                () -> arena.free(2)
+        ).isInstanceOf(BowlingException.class);
+        assertThatThrownBy(
+                () -> arena.free(-1)
+        ).isInstanceOf(BowlingException.class);
+        assertThat(arena.liveCount()).isEqualTo(0);
+        assertThat(arena.allocate("bbb")).isEqualTo(first);
+        assertThat(arena.allocate("ccc")).isNotEqualTo(first);
+    }
+
+    @DisplayName("여러 스레드가 동시에 할당하고 반납해도 같은 slot 을 동시에 받지 않는다")
+    @Test
+    public void allocate_success_concurrent() throws Exception {
+        //given
+        GameArena arena = new GameArena(64, playerRegistry);
+        Set<Integer> owned = ConcurrentHashMap.newKeySet();
+        Set<Integer> duplicated = ConcurrentHashMap.newKeySet();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            threads.execute(() -> {
+                Set<Integer> mine = new HashSet<>();
+                for (int i = 0; i < 50_000; i++) {
+                    int slot = arena.allocate("aaa");
+                    if (!owned.add(slot)) {
+                        duplicated.add(slot);
+                    }
+                    mine.add(slot);
+                    if (mine.size() == 8) {
+                        for (int release : mine) {
+                            owned.remove(release);
+                            arena.free(release);
+                        }
+                        mine.clear();
+                    }
+                }
+            });
+        }
+        threads.shutdown();
+        threads.awaitTermination(30, TimeUnit.SECONDS);
+
+        //then
+        assertThat(duplicated).isEmpty();
+        assertThat(arena.liveCount()).isLessThanOrEqualTo(4 * 8);
+    }
+}
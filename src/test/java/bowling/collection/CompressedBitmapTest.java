@@ -0,0 +1,96 @@
+package bowling.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedBitmapTest {
+
+    private static CompressedBitmap random(SplittableRandom random, BitSet expected, int count, int bound) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        return bitmap;
+    }
+
+    private static int[] toArray(BitSet bits) {
+        return bits.stream().toArray();
+    }
+
+    @DisplayName("추가한 값을 정렬된 순서로 돌려주고 중복은 한번만 센다")
+    @Test
+    public void add_success() throws Exception {
+        //when
+        CompressedBitmap bitmap = CompressedBitmap.of(70_000, 3, 3, 1, 65_536);
+
+        //then
+        assertThat(bitmap.toArray()).containsExactly(1, 3, 65_536, 70_000);
+        assertThat(bitmap.cardinality()).isEqualTo(4);
+        assertThat(bitmap.contains(65_536)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+    }
+
+    @DisplayName("음수는 추가할 수 없다")
+    @Test
+    public void add_fail() throws Exception {
+        assertThatThrownBy(() -> new CompressedBitmap().add(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("드문 집합과 빽빽한 집합의 and, or, andNot 결과가 BitSet 과 같다")
+    @Test
+    public void operations_success_sameAsBitSet() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(17);
+
+        for (int round = 0; round < 20; round++) {
+            BitSet left = new BitSet();
+            BitSet right = new BitSet();
+            CompressedBitmap leftBitmap = random(random, left, random.nextInt(20_000), 300_000);
+            CompressedBitmap rightBitmap = random(random, right, random.nextInt(20_000), 300_000);
+
+            //when
+            BitSet and = (BitSet) left.clone();
+            and.and(right);
+            BitSet or = (BitSet) left.clone();
+            or.or(right);
+            BitSet andNot = (BitSet) left.clone();
+            andNot.andNot(right);
+
+            //then
+            assertThat(leftBitmap.cardinality()).isEqualTo(left.cardinality());
+            assertThat(leftBitmap.and(rightBitmap).toArray()).isEqualTo(toArray(and));
+            assertThat(leftBitmap.or(rightBitmap).toArray()).isEqualTo(toArray(or));
+            assertThat(leftBitmap.andNot(rightBitmap).toArray()).isEqualTo(toArray(andNot));
+        }
+    }
+
+    @DisplayName("복사한 bitmap 은 원본과 따로 바뀐다")
+    @Test
+    public void copy_success() throws Exception {
+        //given
+        CompressedBitmap original = new CompressedBitmap();
+        for (int value = 0; value < 5_000; value++) {
+            original.add(value * 3);
+        }
+
+        //when
+        CompressedBitmap copy = original.copy();
+        copy.add(1);
+        original.add(2);
+
+        //then
+        assertThat(copy.cardinality()).isEqualTo(5_001);
+        assertThat(copy.contains(1)).isTrue();
+        assertThat(copy.contains(2)).isFalse();
+        assertThat(original.contains(1)).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+package bowling.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentIntObjectMapTest {
+
+    @DisplayName("없는 key 만 값을 만들고 이미 있으면 기존 값을 돌려준다")
+    @Test
+    public void computeIfAbsent_success() throws Exception {
+        //given
+        ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>();
+
+        //when
+        String first = map.computeIfAbsent(0, key -> "zero");
+        String second = map.computeIfAbsent(0, key -> "other");
+
+        //then
+        assertThat(first).isSameAs(second);
+        assertThat(map.get(0)).isEqualTo("zero");
+        assertThat(map.get(1)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 스레드가 동시에 추가해도 key 마다 값 하나만 남고 확장 후에도 모두 조회된다")
+    @Test
+    public void computeIfAbsent_success_concurrent() throws Exception {
+        //given
+        ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>(4);
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            threads.execute(() -> {
+                for (int key = 0; key < 10_000; key++) {
+                    map.computeIfAbsent(key * 31, Integer::valueOf);
+                }
+            });
+        }
+        threads.shutdown();
+        threads.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(map.size()).isEqualTo(10_000);
+        for (int key = 0; key < 10_000; key++) {
+            assertThat(map.get(key * 31)).isEqualTo(key * 31);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package bowling.domain;
 
+import bowling.domain.frame.FrameResult;
 import bowling.domain.score.Score;
+import bowling.exception.BowlingException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BowlingGameTest {
@@ -146,4 +152,125 @@ class BowlingGameTest {
         //then
         assertThat(totalScore).isEqualTo(new Score(14));
     }
+
+    @DisplayName("strike 다음 strike 이면 그 다음 프레임의 첫 투구를 합산한다")
+    @Test
+    public void getTotalScore_success_doubleStrike() throws Exception {
+        //given
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+        game.play(10);
+        game.play(10);
+        game.play(5);
+        game.play(3);
+
+        //when
+        Score score = game.getTotalScore(1);
+
+        //then
+        assertThat(score).isEqualTo(new Score(25));
+    }
+
+    @DisplayName("프레임이 끝날 때마다 프레임 번호와 결과를 알린다")
+    @Test
+    public void play_success_frameCompleted() throws Exception {
+        //given
+        List<String> events = new ArrayList<>();
+        BowlingGame game = new BowlingGame(new Player("aaa"), new GameEventListener() {
+            @Override
+            public void onFrameCompleted(int frameNumber, FrameResult result) {
+                events.add(frameNumber + ":" + result);
+            }
+        });
+
+        //when
+        game.play(10);
+        game.play(7);
+        game.play(3);
+        game.play(0);
+        game.play(0);
+        game.play(4);
+
+        //then
+        assertThat(events).containsExactly("1:STRIKE", "2:SPARE", "3:GUTTER");
+    }
+
+    @DisplayName("투구 반영, 프레임 종료, 점수 확정, 게임 종료 이벤트를 순서대로 알린다")
+    @Test
+    public void play_success_gameEvents() throws Exception {
+        //given
+        List<String> events = new ArrayList<>();
+        BowlingGame game = new BowlingGame(new Player("aaa"), new GameEventListener() {
+            @Override
+            public void onRollApplied(int frameNumber, int pinCount) {
+                events.add("roll" + frameNumber + ":" + pinCount);
+            }
+
+            @Override
+            public void onFrameCompleted(int frameNumber, FrameResult result) {
+                events.add("frame" + frameNumber + ":" + result);
+            }
+
+            @Override
+            public void onFrameScoreSettled(int frameNumber, int totalScore) {
+                events.add("settled" + frameNumber + ":" + totalScore);
+            }
+
+            @Override
+            public void onGameFinished(int totalScore) {
+                events.add("finish:" + totalScore);
+            }
+        });
+
+        //when
+        game.play(10);
+        game.play(7);
+        game.play(3);
+        game.play(4);
+
+        //then
+        assertThat(events).containsExactly("roll1:10", "frame1:STRIKE", "roll2:7", "roll2:3",
+                "frame2:SPARE", "settled1:20", "roll3:4", "settled2:34");
+    }
+
+    @DisplayName("끝까지 치면 모든 프레임 점수가 확정되고 BowlingGame 의 점수와 같다")
+    @Test
+    public void play_success_allFramesSettled() throws Exception {
+        //given
+        int[] settled = new int[11];
+        int[] finished = new int[1];
+        BowlingGame game = new BowlingGame(new Player("aaa"), new GameEventListener() {
+            @Override
+            public void onFrameScoreSettled(int frameNumber, int totalScore) {
+                settled[frameNumber] = totalScore;
+            }
+
+            @Override
+            public void onGameFinished(int totalScore) {
+                finished[0] = totalScore;
+            }
+        });
+
+        //when
+        for (int i = 0; i < 11; i++) {
+            game.play(10);
+        }
+
+        //then
+        for (int frame = 1; frame <= 10; frame++) {
+            assertThat(settled[frame]).isEqualTo(game.totalScore(frame));
+        }
+        assertThat(finished[0]).isEqualTo(290);
+    }
+
+    @DisplayName("첫 투구 뒤에는 리스너를 등록할 수 없다")
+    @Test
+    public void addListener_fail_afterStart() throws Exception {
+        //given
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+        game.play(3);
+
+        //then
+        assertThatThrownBy(() -> game.addListener(new GameEventListener() {
+        })).isInstanceOf(BowlingException.class);
+    }
 }
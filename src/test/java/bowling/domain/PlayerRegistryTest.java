@@ -0,0 +1,85 @@
+package bowling.domain;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerRegistryTest {
+
+    @DisplayName("ASCII 이름은 글자를 이어 붙인 key 가 되고 다시 이름으로 되돌린다")
+    @Test
+    public void keyOf_success_ascii() throws Exception {
+        //given
+        PlayerRegistry registry = new PlayerRegistry();
+
+        //when
+        int key = registry.keyOf("PJS");
+
+        //then
+        assertThat(key).isEqualTo('P' << 16 | 'J' << 8 | 'S');
+        assertThat(registry.nameOf(key)).isEqualTo("PJS");
+    }
+
+    @DisplayName("ASCII 가 아닌 이름은 처음 본 순서대로 별도의 key 를 받는다")
+    @Test
+    public void keyOf_success_fallback() throws Exception {
+        //given
+        PlayerRegistry registry = new PlayerRegistry();
+
+        //when
+        int first = registry.keyOf("홍길동");
+        int second = registry.keyOf("김철수");
+
+        //then
+        assertThat(first).isGreaterThan('~' << 16 | '~' << 8 | '~');
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(registry.keyOf("홍길동")).isEqualTo(first);
+        assertThat(registry.nameOf(second)).isEqualTo("김철수");
+    }
+
+    @DisplayName("findKey 는 등록되지 않은 ASCII 가 아닌 이름에 key 를 붙이지 않는다")
+    @Test
+    public void findKey_success_notRegistered() throws Exception {
+        //given
+        PlayerRegistry registry = new PlayerRegistry();
+        int key = registry.keyOf("홍길동");
+
+        //when
+        boolean unknown = registry.findKey("김철수").isPresent();
+
+        //then
+        assertThat(unknown).isFalse();
+        assertThat(registry.findKey("홍길동").getAsInt()).isEqualTo(key);
+        assertThat(registry.findKey("abc").getAsInt()).isEqualTo(registry.keyOf("abc"));
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 이름은 같은 Player 객체를 돌려준다")
+    @Test
+    public void intern_success() throws Exception {
+        //given
+        PlayerRegistry registry = new PlayerRegistry();
+
+        //when
+        Player player = registry.intern("aaa");
+
+        //then
+        assertThat(registry.intern("aaa")).isSameAs(player);
+        assertThat(registry.get(registry.keyOf("aaa"))).isSameAs(player);
+    }
+
+    @DisplayName("3글자가 아닌 이름은 exception")
+    @Test
+    public void keyOf_fail() throws Exception {
+        //given
+        PlayerRegistry registry = new PlayerRegistry();
+
+        //then
+        assertThatThrownBy(
+                () -> registry.keyOf("abcd")
+        ).isInstanceOf(BowlingException.class);
+    }
+}
@@ -250,4 +250,50 @@ class FinalFrameStatesTest {
         //then
         assertTrue(score.equals(compare));
     }
+
+    @DisplayName("마지막 frame에서 한번만 투구했으면 그 투구만 이전 점수에 더해준다")
+    @Test
+    public void getCalculateScore_success_firstBowlOnly() throws Exception {
+        //given
+        FinalFrameStates states = FinalFrameStates.of();
+        states = states.bowl(3);
+        Score score = new Score(10, 2);
+
+        //when
+        score = states.getCalculateScore(score);
+
+        //then
+        assertThat(score).isEqualTo(new Score(13));
+        assertTrue(score.canAddNextScore());
+    }
+
+    @DisplayName("투구해도 새 객체를 만들지 않고 같은 상태를 갱신한다")
+    @Test
+    public void bowl_success_inPlace() throws Exception {
+        //given
+        FinalFrameStates states = FinalFrameStates.of();
+
+        //when
+        FinalFrameStates first = states.bowl(5);
+        FinalFrameStates second = first.bowl(5);
+        FinalFrameStates bonus = second.bowl(3);
+
+        //then
+        assertThat(first).isSameAs(states);
+        assertThat(second).isSameAs(states);
+        assertThat(bonus).isSameAs(states);
+        assertThat(states.getCurrentScore()).isEqualTo(new Score(13));
+    }
+
+    @DisplayName("보너스 상태가 이미 있으면 더 추가할 수 없다")
+    @Test
+    public void addState_fail() throws Exception {
+        //given
+        FinalFrameStates states = FinalFrameStates.of().addState(new Ready());
+
+        //then
+        assertThatThrownBy(
+                () -> states.addState(new Ready())
+        ).isInstanceOf(BowlingException.class);
+    }
 }
@@ -1,6 +1,7 @@
 package bowling.domain.frame.state;
 
 import bowling.domain.pin.Pin;
+import bowling.domain.pin.PinMask;
 import bowling.domain.score.Score;
 import bowling.exception.BowlingException;
 import org.junit.jupiter.api.DisplayName;
@@ -102,4 +103,41 @@ class FirstBowlTest {
         //then
         assertTrue(score.equals(compare));
     }
+
+    @DisplayName("두번째 투구의 남은 핀 mask 로 쓰러뜨린 핀 수를 구하고 첫 투구의 leave 를 유지한다")
+    @Test
+    public void bowlMask_success() throws Exception {
+        //given
+        FirstBowl firstBowl = new FirstBowl(new Pin(8), PinMask.of(7, 10));
+
+        //when
+        State bowl = firstBowl.bowlMask(PinMask.of(10));
+
+        //then
+        assertTrue(bowl instanceof Miss);
+        assertTrue(bowl.getPins().getSecondDownPin() == 1);
+        assertTrue(bowl.getPins().isSplit());
+    }
+
+    @DisplayName("첫 투구에서 쓰러진 핀이 다시 서 있으면 exception")
+    @Test
+    public void bowlMask_fail_raised() throws Exception {
+        //given
+        FirstBowl firstBowl = new FirstBowl(new Pin(8), PinMask.of(7, 10));
+
+        //then
+        assertThatThrownBy(() -> firstBowl.bowlMask(PinMask.of(1)))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("첫 투구의 남은 핀 정보가 없으면 mask 로 던질 수 없다")
+    @Test
+    public void bowlMask_fail_noLeave() throws Exception {
+        //given
+        FirstBowl firstBowl = new FirstBowl(new Pin(8));
+
+        //then
+        assertThatThrownBy(() -> firstBowl.bowlMask(PinMask.NONE))
+                .isInstanceOf(BowlingException.class);
+    }
 }
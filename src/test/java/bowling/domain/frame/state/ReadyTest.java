@@ -1,5 +1,6 @@
 package bowling.domain.frame.state;
 
+import bowling.domain.pin.PinMask;
 import bowling.domain.score.Score;
 import bowling.exception.BowlingException;
 import org.junit.jupiter.api.DisplayName;
@@ -73,4 +74,39 @@ class ReadyTest {
                 () -> ready.getCalculateScore(score)
         ).isInstanceOf(BowlingException.class);
     }
+
+    @DisplayName("ready 상태에서 남은 핀 mask 가 비어 있으면 strike 를 반환한다")
+    @Test
+    public void bowlMask_success_strike() throws Exception {
+        //given
+        Ready ready = new Ready();
+
+        //when
+        State bowl = ready.bowlMask(PinMask.NONE);
+
+        //then
+        assertThat(bowl).isInstanceOf(Strike.class);
+    }
+
+    @DisplayName("ready 상태에서 남은 핀 mask 로 FirstBowl 을 만들고 leave 를 기록한다")
+    @Test
+    public void bowlMask_success_firstBowl() throws Exception {
+        //given
+        Ready ready = new Ready();
+
+        //when
+        State bowl = ready.bowlMask(PinMask.of(7, 10));
+
+        //then
+        assertThat(bowl).isInstanceOf(FirstBowl.class);
+        assertThat(bowl.getPins().getFirstDownPin()).isEqualTo(8);
+        assertThat(bowl.getPins().getFirstLeave()).isEqualTo(PinMask.of(7, 10));
+    }
+
+    @DisplayName("10 bit 를 벗어난 mask 는 exception")
+    @Test
+    public void bowlMask_fail() throws Exception {
+        assertThatThrownBy(() -> new Ready().bowlMask(1 << 10))
+                .isInstanceOf(BowlingException.class);
+    }
 }
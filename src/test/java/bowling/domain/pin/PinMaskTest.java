@@ -0,0 +1,57 @@
+package bowling.domain.pin;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PinMaskTest {
+
+    @DisplayName("헤드핀이 쓰러지고 남은 핀이 떨어져 있으면 스플릿이다")
+    @Test
+    public void leaveOf_success_split() throws Exception {
+        assertThat(PinMask.leaveOf(PinMask.of(7, 10))).isEqualTo(PinLeave.SPLIT);
+        assertThat(PinMask.leaveOf(PinMask.of(5, 6))).isEqualTo(PinLeave.SPLIT);
+        assertThat(PinMask.leaveOf(PinMask.of(3, 10))).isEqualTo(PinLeave.SPLIT);
+        assertThat(PinMask.leaveOf(PinMask.of(4, 6, 7, 10))).isEqualTo(PinLeave.SPLIT);
+    }
+
+    @DisplayName("남은 핀이 대각선으로 이어져 있거나 헤드핀이 서 있으면 스플릿이 아니다")
+    @Test
+    public void leaveOf_success_cluster() throws Exception {
+        assertThat(PinMask.leaveOf(PinMask.of(4, 7))).isEqualTo(PinLeave.CLUSTER);
+        assertThat(PinMask.leaveOf(PinMask.of(2, 4, 5, 8))).isEqualTo(PinLeave.CLUSTER);
+        assertThat(PinMask.leaveOf(PinMask.of(1, 7, 10))).isEqualTo(PinLeave.CLUSTER);
+        assertThat(PinMask.isSplit(PinMask.of(6, 10))).isFalse();
+    }
+
+    @DisplayName("핀이 없거나 하나만 남으면 CLEAR, SINGLE 이다")
+    @Test
+    public void leaveOf_success_clearAndSingle() throws Exception {
+        assertThat(PinMask.leaveOf(PinMask.NONE)).isEqualTo(PinLeave.CLEAR);
+        assertThat(PinMask.leaveOf(PinMask.of(10))).isEqualTo(PinLeave.SINGLE);
+    }
+
+    @DisplayName("쓰러진 핀 수는 전후 mask 의 남은 핀 수 차이다")
+    @Test
+    public void knockedDown_success() throws Exception {
+        assertThat(PinMask.knockedDown(PinMask.FULL, PinMask.of(7, 10))).isEqualTo(8);
+        assertThat(PinMask.standing(PinMask.FULL)).isEqualTo(10);
+    }
+
+    @DisplayName("쓰러진 핀이 다시 서 있으면 exception")
+    @Test
+    public void knockedDown_fail() throws Exception {
+        assertThatThrownBy(() -> PinMask.knockedDown(PinMask.of(7, 10), PinMask.of(7, 9)))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("남은 핀을 번호 순서로 표기한다")
+    @Test
+    public void toString_success() throws Exception {
+        assertThat(PinMask.toString(PinMask.of(10, 7))).isEqualTo("7-10");
+        assertThat(PinMask.toString(PinMask.NONE)).isEqualTo("");
+    }
+}
@@ -0,0 +1,34 @@
+package bowling.domain.roll;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedRollsTest {
+
+    @DisplayName("투구를 4bit 씩 묶어 저장하고 다시 풀 수 있다")
+    @Test
+    public void pack_success() throws Exception {
+        //given
+        byte[] rolls = {10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1, 5, 5, 10, 10};
+
+        //when
+        byte[] packed = PackedRolls.pack(rolls, rolls.length);
+
+        //then
+        assertThat(packed).hasSize(11);
+        assertThat(PackedRolls.unpack(packed, rolls.length)).isEqualTo(rolls);
+        assertThat(PackedRolls.get(packed, 20)).isEqualTo(10);
+    }
+
+    @DisplayName("21번 보다 많은 투구는 저장할 수 없다")
+    @Test
+    public void pack_fail_tooManyRolls() throws Exception {
+        assertThatThrownBy(
+                () -> PackedRolls.pack(new byte[22], 22)
+        ).isInstanceOf(BowlingException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package bowling.domain.roll;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RollStateTest {
+
+    private int play(int... pins) {
+        int state = RollState.INITIAL;
+        for (int pin : pins) {
+            state = RollState.next(state, pin);
+        }
+        return state;
+    }
+
+    @DisplayName("스트라이크는 바로 다음 프레임으로 넘어가고 그 외에는 두번째 투구에 남은 핀을 기억한다")
+    @Test
+    public void next_success() throws Exception {
+        //when
+        int strike = play(10);
+        int firstBowl = play(3);
+
+        //then
+        assertThat(RollState.frameOf(strike)).isEqualTo(2);
+        assertThat(RollState.frameOf(firstBowl)).isEqualTo(1);
+        assertThat(RollState.ballOf(firstBowl)).isEqualTo(1);
+        assertThat(RollState.standingOf(firstBowl)).isEqualTo(7);
+    }
+
+    @DisplayName("10 프레임 스트라이크와 스페어는 보너스 1회 뒤에 끝나고 open 은 두번 투구로 끝난다")
+    @Test
+    public void isFinish_success() throws Exception {
+        //when
+        int perfect = play(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+        int spare = play(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 3);
+        int open = play(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 2);
+
+        //then
+        assertTrue(RollState.isFinish(perfect));
+        assertFalse(RollState.isFinish(spare));
+        assertTrue(RollState.isFinish(RollState.next(spare, 10)));
+        assertTrue(RollState.isFinish(open));
+    }
+
+    @DisplayName("남은 핀보다 많이 쓰러뜨리거나 끝난 게임에 투구하면 exception")
+    @Test
+    public void next_fail() throws Exception {
+        //given
+        int firstBowl = play(7);
+        int finished = play(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+        //then
+        assertFalse(RollState.isValid(firstBowl, 4));
+        assertThatThrownBy(
+                () -> RollState.next(firstBowl, 4)
+        ).isInstanceOf(BowlingException.class);
+        assertThatThrownBy(
+                () -> RollState.next(finished, 0)
+        ).isInstanceOf(BowlingException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package bowling.domain.roll;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollValidatorTest {
+
+    @DisplayName("완료된 게임은 올바르다")
+    @Test
+    public void validate_success() throws Exception {
+        //given
+        int[] perfect = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+        byte[] finalSpare = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 3, 5};
+
+        //then
+        assertThat(RollValidator.isValid(RollValidator.validate(perfect))).isTrue();
+        assertThat(RollValidator.isValid(RollValidator.validate(finalSpare))).isTrue();
+    }
+
+    @DisplayName("0~10 을 벗어난 핀은 그 위치와 함께 PIN_RANGE 이다")
+    @Test
+    public void validate_fail_pinRange() throws Exception {
+        //when
+        int result = RollValidator.validate(new int[]{3, 4, 11});
+
+        //then
+        assertThat(RollValidator.statusOf(result)).isEqualTo(RollValidator.PIN_RANGE);
+        assertThat(RollValidator.indexOf(result)).isEqualTo(2);
+    }
+
+    @DisplayName("한 프레임에서 남은 핀보다 많이 쓰러뜨리면 PIN_OVERFLOW 이다")
+    @Test
+    public void validate_fail_pinOverflow() throws Exception {
+        //when
+        int result = RollValidator.validate(new byte[]{10, 3, 8});
+
+        //then
+        assertThat(RollValidator.statusOf(result)).isEqualTo(RollValidator.PIN_OVERFLOW);
+        assertThat(RollValidator.indexOf(result)).isEqualTo(2);
+    }
+
+    @DisplayName("10 프레임 스트라이크 뒤 보너스는 1회뿐이라 그 다음 투구는 TRAILING_ROLL 이다")
+    @Test
+    public void validate_fail_trailingRoll() throws Exception {
+        //when
+        int result = RollValidator.validate(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+
+        //then
+        assertThat(RollValidator.statusOf(result)).isEqualTo(RollValidator.TRAILING_ROLL);
+        assertThat(RollValidator.indexOf(result)).isEqualTo(11);
+    }
+
+    @DisplayName("투구가 모자라면 배열 길이를 위치로 INCOMPLETE 이다")
+    @Test
+    public void validate_fail_incomplete() throws Exception {
+        //when
+        int result = RollValidator.validate(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 3});
+
+        //then
+        assertThat(RollValidator.statusOf(result)).isEqualTo(RollValidator.INCOMPLETE);
+        assertThat(RollValidator.indexOf(result)).isEqualTo(20);
+        assertThat(RollValidator.messageOf(result)).isEqualTo(RollValidator.INCOMPLETE_ERR_MESSAGE);
+    }
+
+    @DisplayName("임의의 투구 배열에서 BowlingGame 이 처음 거부하는 위치와 같은 위치를 찾는다")
+    @Test
+    public void validate_success_sameAsBowlingGame() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(13);
+
+        for (int i = 0; i < 10_000; i++) {
+            int[] rolls = new int[1 + random.nextInt(23)];
+            for (int j = 0; j < rolls.length; j++) {
+                rolls[j] = random.nextInt(4) == 0 ? 10 : random.nextInt(7);
+            }
+
+            //when
+            int result = RollValidator.validate(rolls);
+
+            //then
+            BowlingGame game = new BowlingGame(new Player("aaa"));
+            int rejected = rolls.length;
+            for (int j = 0; j < rolls.length && rejected == rolls.length; j++) {
+                try {
+                    game.play(rolls[j]);
+                } catch (BowlingException e) {
+                    rejected = j;
+                }
+            }
+            if (rejected < rolls.length) {
+                assertThat(RollValidator.indexOf(result)).isEqualTo(rejected);
+            } else {
+                assertThat(RollValidator.isValid(result)).isEqualTo(game.isFinish());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package bowling.domain.score;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.exception.BowlingException;
+import bowling.simulation.SkillProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static bowling.domain.score.GameFixtures.rolls;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkScorerTest {
+
+    @DisplayName("여러 게임의 총점을 한번에 계산한다")
+    @Test
+    public void scoreAll_success() throws Exception {
+        //given
+        int[][] slots = BulkScorer.toSlots(new byte[][]{
+                rolls(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10),
+                rolls(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 3, 5),
+                rolls(3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4)
+        });
+
+        //when
+        int[] totals = BulkScorer.scoreAll(slots);
+
+        //then
+        assertThat(totals).containsExactly(290, 15, 70);
+    }
+
+    @DisplayName("프레임별 누적 점수를 계산한다")
+    @Test
+    public void frameTotals_success() throws Exception {
+        //given
+        int[][] slots = BulkScorer.toSlots(new byte[][]{rolls(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10)});
+
+        //when
+        int[][] totals = BulkScorer.frameTotals(slots);
+
+        //then
+        assertThat(totals[0][0]).isEqualTo(30);
+        assertThat(totals[8][0]).isEqualTo(270);
+        assertThat(totals[9][0]).isEqualTo(290);
+    }
+
+    @DisplayName("투구 자리가 21개가 아니면 예외가 발생한다")
+    @Test
+    public void scoreAll_fail() throws Exception {
+        assertThatThrownBy(() -> BulkScorer.scoreAll(new int[20][1]))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("임의의 게임에서 BowlingGame 과 같은 프레임별 점수를 계산한다")
+    @Test
+    public void frameTotals_success_sameAsBowlingGame() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(5);
+        byte[][] games = new byte[10_000][];
+        for (int g = 0; g < games.length; g++) {
+            games[g] = (g % 2 == 0 ? SkillProfile.PRO : SkillProfile.BEGINNER).randomGame(random);
+        }
+
+        //when
+        int[][] totals = BulkScorer.frameTotals(BulkScorer.toSlots(games));
+
+        //then
+        for (int g = 0; g < games.length; g++) {
+            BowlingGame game = new BowlingGame(new Player("aaa"));
+            for (byte pins : games[g]) {
+                game.play(pins);
+            }
+            for (int frame = 1; frame <= 10; frame++) {
+                assertThat(totals[frame - 1][g]).isEqualTo(game.totalScore(frame));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package bowling.domain.score;
+
+import bowling.simulation.SkillProfile;
+
+import java.util.SplittableRandom;
+
+/**
+ * 점수 계산, 보관, 압축 테스트와 벤치마크가 함께 쓰는 투구 배열 생성기.
+ */
+public class GameFixtures {
+
+    private GameFixtures() {
+    }
+
+    public static byte[] rolls(final int... pins) {
+        byte[] rolls = new byte[pins.length];
+        for (int i = 0; i < pins.length; i++) {
+            rolls[i] = (byte) pins[i];
+        }
+        return rolls;
+    }
+
+    /**
+     * 스트라이크가 몰리는 게임과 거터가 섞이는 게임이 고르게 나오도록 PRO 와 BEGINNER 를 번갈아 고른다.
+     */
+    public static byte[] randomGame(final SplittableRandom random) {
+        return (random.nextBoolean() ? SkillProfile.PRO : SkillProfile.BEGINNER).randomGame(random);
+    }
+}
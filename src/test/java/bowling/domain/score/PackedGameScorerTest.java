@@ -0,0 +1,144 @@
+package bowling.domain.score;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.roll.PackedRolls;
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static bowling.domain.score.GameFixtures.rolls;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedGameScorerTest {
+
+    private static List<byte[]> normalFrames() {
+        List<byte[]> frames = new ArrayList<>();
+        frames.add(rolls(10));
+        for (int first = 0; first < 10; first++) {
+            for (int second = 0; second <= 10 - first; second++) {
+                frames.add(rolls(first, second));
+            }
+        }
+        return frames;
+    }
+
+    private static List<byte[]> lastFrames() {
+        List<byte[]> frames = new ArrayList<>();
+        for (int bonus = 0; bonus <= 10; bonus++) {
+            frames.add(rolls(10, bonus));
+        }
+        for (int first = 0; first < 10; first++) {
+            for (int second = 0; second < 10 - first; second++) {
+                frames.add(rolls(first, second));
+            }
+            for (int bonus = 0; bonus <= 10; bonus++) {
+                frames.add(rolls(first, 10 - first, bonus));
+            }
+        }
+        return frames;
+    }
+
+    private static byte[] concat(byte[]... frames) {
+        byte[] rolls = new byte[0];
+        for (byte[] frame : frames) {
+            int length = rolls.length;
+            rolls = Arrays.copyOf(rolls, length + frame.length);
+            System.arraycopy(frame, 0, rolls, length, frame.length);
+        }
+        return rolls;
+    }
+
+    private static void assertSameAsBowlingGame(byte[] rolls, int[] frameTotals) {
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+        for (byte pins : rolls) {
+            game.play(pins);
+        }
+
+        int score = PackedGameScorer.frameTotals(PackedGameScorer.low(rolls), PackedGameScorer.high(rolls), frameTotals);
+        assertThat(score).isEqualTo(game.getTotalScore(10).getScore());
+        for (int frame = 1; frame <= 10; frame++) {
+            assertThat(frameTotals[frame - 1]).isEqualTo(game.getTotalScore(frame).getScore());
+        }
+    }
+
+    @DisplayName("모두 스트라이크면 290점이다")
+    @Test
+    public void score_success_perfect() throws Exception {
+        //given
+        byte[] rolls = rolls(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+        //then
+        assertThat(PackedGameScorer.score(PackedGameScorer.low(rolls), PackedGameScorer.high(rolls))).isEqualTo(290);
+    }
+
+    @DisplayName("PackedRolls 로 압축된 byte 에서 바로 long 두개를 읽는다")
+    @Test
+    public void lowHigh_success_packedRolls() throws Exception {
+        //given
+        byte[] rolls = rolls(1, 2, 3, 4, 5, 5, 6, 4, 7, 3, 8, 2, 9, 1, 10, 10, 0, 0, 7, 3, 5);
+        ByteBuffer buffer = ByteBuffer.allocate(PackedRolls.MAX_PACKED_BYTES + 3);
+        buffer.position(3);
+        buffer.put(PackedRolls.pack(rolls, rolls.length));
+
+        //then
+        assertThat(PackedGameScorer.low(buffer, 3)).isEqualTo(PackedGameScorer.low(rolls));
+        assertThat(PackedGameScorer.high(buffer, 3)).isEqualTo(PackedGameScorer.high(rolls));
+    }
+
+    @DisplayName("프레임 점수 배열이 10칸보다 작으면 예외가 발생한다")
+    @Test
+    public void frameTotals_fail() throws Exception {
+        assertThatThrownBy(() -> PackedGameScorer.frameTotals(0, 0, new int[9]))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("9, 10 프레임의 모든 조합에서 BowlingGame 과 같은 프레임별 점수를 계산한다")
+    @Test
+    public void frameTotals_success_allEndings() throws Exception {
+        //given
+        List<byte[]> prefixes = Arrays.asList(
+                rolls(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+                rolls(10, 10, 10, 10, 10, 10, 10, 10),
+                rolls(5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5),
+                rolls(10, 3, 7, 10, 0, 10, 9, 0, 10, 10, 2, 8));
+        int[] frameTotals = new int[10];
+
+        for (byte[] prefix : prefixes) {
+            for (byte[] ninth : normalFrames()) {
+                for (byte[] last : lastFrames()) {
+                    //then
+                    assertSameAsBowlingGame(concat(prefix, ninth, last), frameTotals);
+                }
+            }
+        }
+    }
+
+    @DisplayName("임의의 게임에서 BowlingGame 과 같은 프레임별 점수를 계산한다")
+    @Test
+    public void frameTotals_success_random() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(11);
+        List<byte[]> normalFrames = normalFrames();
+        List<byte[]> lastFrames = lastFrames();
+        int[] frameTotals = new int[10];
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[][] frames = new byte[10][];
+            for (int frame = 0; frame < 9; frame++) {
+                frames[frame] = normalFrames.get(random.nextInt(normalFrames.size()));
+            }
+            frames[9] = lastFrames.get(random.nextInt(lastFrames.size()));
+
+            //then
+            assertSameAsBowlingGame(concat(frames), frameTotals);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package bowling.domain.score;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.roll.PackedRolls;
+import bowling.simulation.SkillProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static bowling.domain.score.GameFixtures.rolls;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollScorerTest {
+
+    @DisplayName("모두 스트라이크면 290점이다")
+    @Test
+    public void score_success_perfect() throws Exception {
+        //given
+        byte[] rolls = rolls(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+        //then
+        assertThat(RollScorer.score(PackedRolls.pack(rolls, rolls.length))).isEqualTo(290);
+    }
+
+    @DisplayName("10 프레임 스페어는 보너스 1회를 더한다")
+    @Test
+    public void score_success_finalSpare() throws Exception {
+        //given
+        byte[] rolls = rolls(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 7, 3, 5);
+
+        //then
+        assertThat(RollScorer.score(PackedRolls.pack(rolls, rolls.length))).isEqualTo(15);
+    }
+
+    @DisplayName("임의의 게임에서 BowlingGame 과 같은 점수를 계산한다")
+    @Test
+    public void score_success_sameAsBowlingGame() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[] rolls = SkillProfile.PRO.randomGame(random);
+            BowlingGame game = new BowlingGame(new Player("aaa"));
+            for (byte pins : rolls) {
+                game.play(pins);
+            }
+
+            //then
+            assertThat(RollScorer.score(PackedRolls.pack(rolls, rolls.length)))
+                    .isEqualTo(game.getTotalScore(10).getScore());
+        }
+    }
+}
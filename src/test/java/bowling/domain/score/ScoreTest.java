@@ -84,4 +84,32 @@ class ScoreTest {
         assertFalse(calc1.canAddNextScore());
         assertTrue(calc2.canAddNextScore());
     }
+
+    @DisplayName("점수와 합산 횟수를 int 하나로 담고 그대로 되돌린다")
+    @Test
+    public void pack_success() throws Exception {
+        //when
+        int packed = Score.pack(290, 2);
+
+        //then
+        assertThat(Score.scoreOf(packed)).isEqualTo(290);
+        assertThat(Score.addCountOf(packed)).isEqualTo(2);
+        assertTrue(Score.canAddNextScore(packed));
+        assertThat(Score.of(packed)).isEqualTo(new Score(290, 2));
+    }
+
+    @DisplayName("int 로 담은 점수에 핀 수를 더하면 합산 횟수가 하나 줄어든다")
+    @Test
+    public void addScore_success_packed() throws Exception {
+        //given
+        int packed = new Score(10, 2).toPacked();
+
+        //when
+        packed = Score.addScore(packed, 10);
+        packed = Score.addScore(packed, 7);
+
+        //then
+        assertThat(Score.scoreOf(packed)).isEqualTo(27);
+        assertFalse(Score.canAddNextScore(packed));
+    }
 }
@@ -0,0 +1,120 @@
+package bowling.lane;
+
+import bowling.domain.Player;
+import bowling.exception.BowlingException;
+import bowling.view.ScoreBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LaneTest {
+
+    @DisplayName("게임을 시작하고 투구하면 갱신된 점수판을 공개한다")
+    @Test
+    public void play_success() throws Exception {
+        //given
+        Lane lane = new Lane();
+        lane.start(new Player("aaa")).join();
+
+        //when
+        lane.play(10).join();
+        lane.play(3).join();
+        ScoreBoard scoreBoard = lane.play(4).join();
+
+        //then
+        assertThat(scoreBoard.getMarks()).containsExactly("X", "3|4");
+        assertThat(scoreBoard.getScores()).containsExactly(17, 24);
+        assertThat(lane.getScoreBoard()).isSameAs(scoreBoard);
+    }
+
+    @DisplayName("게임 종료 이벤트를 받는 listener 는 마지막 투구까지 담긴 투구 배열을 본다")
+    @Test
+    public void play_success_finishedRolls() throws Exception {
+        //given
+        AtomicReference<byte[]> finishedRolls = new AtomicReference<>();
+        Lane lane = new Lane(1, new LaneListener() {
+            @Override
+            public void onGameFinished(final int laneId, final LaneGame game, final int totalScore) {
+                finishedRolls.set(game.getRolls());
+            }
+        });
+        lane.start(new Player("aaa")).join();
+
+        //when
+        for (int i = 0; i < 11; i++) {
+            lane.play(10).join();
+        }
+
+        //then
+        assertThat(finishedRolls.get()).hasSize(11);
+        assertThat(finishedRolls.get()[10]).isEqualTo((byte) 10);
+    }
+
+    @DisplayName("listener 하나가 실패해도 투구는 성공하고 나머지 listener 는 이벤트를 받는다")
+    @Test
+    public void play_success_failingListener() throws Exception {
+        //given
+        AtomicReference<ScoreBoard> published = new AtomicReference<>();
+        LaneListener failing = new LaneListener() {
+            @Override
+            public void onUpdate(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public void onRollApplied(final int laneId, final LaneGame game, final int frameNumber,
+                                      final int pinCount) {
+                throw new IllegalStateException();
+            }
+        };
+        LaneListener recording = new LaneListener() {
+            @Override
+            public void onUpdate(final int laneId, final LaneGame game, final ScoreBoard scoreBoard) {
+                published.set(scoreBoard);
+            }
+        };
+        Lane lane = new Lane(1, new CompositeLaneListener(Arrays.asList(failing, recording)));
+        lane.start(new Player("aaa")).join();
+
+        //when
+        ScoreBoard scoreBoard = lane.play(7).join();
+
+        //then
+        assertThat(scoreBoard.getMarks()).containsExactly("7");
+        assertThat(published.get()).isSameAs(scoreBoard);
+    }
+
+    @DisplayName("게임을 시작하지 않고 투구하면 exception")
+    @Test
+    public void play_fail_noGame() throws Exception {
+        //given
+        Lane lane = new Lane();
+
+        //then
+        assertThatThrownBy(
+                () -> lane.play(3).join()
+        ).isInstanceOf(CompletionException.class);
+    }
+
+    @DisplayName("잘못된 투구는 exception 으로 완료되고 레인은 계속 사용할 수 있다")
+    @Test
+    public void play_fail_invalidPins() throws Exception {
+        //given
+        Lane lane = new Lane();
+        lane.start(new Player("aaa")).join();
+        lane.play(7).join();
+
+        //when
+        Throwable thrown = lane.play(5).handle((board, e) -> e.getCause()).join();
+
+        //then
+        assertThat(thrown).isInstanceOf(BowlingException.class);
+        assertThat(lane.play(2).join().getScores()).containsExactly(9);
+    }
+}
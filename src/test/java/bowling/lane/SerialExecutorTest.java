@@ -0,0 +1,81 @@
+package bowling.lane;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerialExecutorTest {
+
+    private int counter;
+
+    @DisplayName("여러 스레드에서 넘긴 작업을 한번에 하나씩 모두 실행한다")
+    @Test
+    public void execute_success_serial() throws Exception {
+        //given
+        SerialExecutor executor = new SerialExecutor();
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8 * 10_000);
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            threads.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    executor.execute(() -> {
+                        counter++;
+                        done.countDown();
+                    });
+                }
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        threads.shutdown();
+
+        //then
+        assertThat(counter).isEqualTo(80_000);
+    }
+
+    @DisplayName("작업 안에서 넘긴 작업은 현재 작업이 끝난 뒤 순서대로 실행한다")
+    @Test
+    public void execute_success_reentrant() throws Exception {
+        //given
+        SerialExecutor executor = new SerialExecutor();
+        List<Integer> order = new ArrayList<>();
+
+        //when
+        executor.execute(() -> {
+            executor.execute(() -> order.add(2));
+            order.add(1);
+        });
+
+        //then
+        assertThat(order).containsExactly(1, 2);
+    }
+
+    @DisplayName("작업에서 예외가 나도 다음 작업은 실행된다")
+    @Test
+    public void execute_success_afterException() throws Exception {
+        //given
+        SerialExecutor executor = new SerialExecutor();
+        List<Integer> order = new ArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> order.add(-1));
+
+        //when
+        executor.execute(() -> {
+            throw new IllegalStateException();
+        });
+        executor.execute(() -> order.add(1));
+        Thread.currentThread().setUncaughtExceptionHandler(handler);
+
+        //then
+        assertThat(order).containsExactly(-1, 1);
+    }
+}
@@ -0,0 +1,136 @@
+package bowling.leaderboard;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.PlayerRegistry;
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardTest {
+
+    @DisplayName("플레이어별 최고 점수 순으로 상위 순위를 돌려주고 동점은 같은 순위가 된다")
+    @Test
+    public void top_success() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+
+        //when
+        leaderboard.submit("aaa", 150);
+        leaderboard.submit("bbb", 200);
+        leaderboard.submit("ccc", 150);
+        leaderboard.submit("ddd", 90);
+
+        //then
+        List<LeaderboardEntry> top = leaderboard.top(3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getPlayerName()).isEqualTo("bbb");
+        assertThat(top.get(1).getRank()).isEqualTo(2);
+        assertThat(top.get(2).getRank()).isEqualTo(2);
+        assertThat(leaderboard.find("ddd").get().getRank()).isEqualTo(4);
+    }
+
+    @DisplayName("동점자가 많아도 이름 순으로 요청한 개수까지만 돌려준다")
+    @Test
+    public void top_success_manyTies() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+        for (int i = 999; i >= 0; i--) {
+            leaderboard.submit(String.format("%03d", i), 200);
+        }
+        leaderboard.submit("TOP", 250);
+
+        //when
+        List<LeaderboardEntry> top = leaderboard.top(3);
+
+        //then
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getPlayerName()).isEqualTo("TOP");
+        assertThat(top.get(1).getPlayerName()).isEqualTo("000");
+        assertThat(top.get(2).getPlayerName()).isEqualTo("001");
+        assertThat(top.get(2).getRank()).isEqualTo(2);
+    }
+
+    @DisplayName("더 높은 점수만 최고 점수를 갱신하고 순위가 바뀐다")
+    @Test
+    public void submit_success_best() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+        leaderboard.submit("aaa", 150);
+        leaderboard.submit("bbb", 200);
+
+        //when
+        boolean lower = leaderboard.submit("aaa", 100);
+        boolean higher = leaderboard.submit("aaa", 250);
+
+        //then
+        assertThat(lower).isFalse();
+        assertThat(higher).isTrue();
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.find("aaa").get().getRank()).isEqualTo(1);
+        assertThat(leaderboard.find("bbb").get().getRank()).isEqualTo(2);
+    }
+
+    @DisplayName("끝난 게임의 10 프레임 누적 점수를 올린다")
+    @Test
+    public void submit_success_game() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            game.play(4);
+        }
+        leaderboard.submit(game);
+
+        //then
+        assertThat(leaderboard.find("aaa").get().getScore()).isEqualTo(80);
+    }
+
+    @DisplayName("끝나지 않은 게임은 exception")
+    @Test
+    public void submit_fail_notFinished() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+        game.play(4);
+
+        //then
+        assertThatThrownBy(
+                () -> leaderboard.submit(game)
+        ).isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("여러 스레드에서 동시에 올려도 플레이어마다 최고 점수 하나만 남는다")
+    @Test
+    public void submit_success_concurrent() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard(new PlayerRegistry());
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int thread = 0; thread < 8; thread++) {
+            threads.execute(() -> {
+                for (int score = 0; score <= 300; score++) {
+                    leaderboard.submit(String.format("p%02d", score % 50), score);
+                }
+            });
+        }
+        threads.shutdown();
+        threads.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(leaderboard.size()).isEqualTo(50);
+        assertThat(leaderboard.top(1).get(0).getScore()).isEqualTo(300);
+        assertThat(leaderboard.top(50).get(49).getScore()).isEqualTo(251);
+    }
+}
@@ -0,0 +1,28 @@
+package bowling.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreCountsTest {
+
+    @DisplayName("점수 이하와 초과 개수를 누적해서 구한다")
+    @Test
+    public void count_success() throws Exception {
+        //given
+        ScoreCounts counts = new ScoreCounts(300);
+
+        //when
+        counts.add(0, 1);
+        counts.add(150, 2);
+        counts.add(300, 1);
+        counts.add(150, -1);
+
+        //then
+        assertThat(counts.countAtMost(0)).isEqualTo(1);
+        assertThat(counts.countAtMost(299)).isEqualTo(2);
+        assertThat(counts.countAbove(150)).isEqualTo(1);
+        assertThat(counts.total()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,154 @@
+package bowling.leaderboard;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WindowedLeaderboardTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    @DisplayName("창 안의 게임을 점수 순으로 돌려주고 동점은 같은 순위가 된다")
+    @Test
+    public void top_success() throws Exception {
+        //given
+        MutableClock clock = new MutableClock();
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(clock, MINUTE, 60, 10);
+
+        //when
+        leaderboard.record("aaa", 150);
+        clock.advance(MINUTE);
+        leaderboard.record("bbb", 200);
+        leaderboard.record("ccc", 150);
+        leaderboard.record("aaa", 90);
+
+        //then
+        List<LeaderboardEntry> top = leaderboard.top(Duration.ofHours(1), 3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getPlayerName()).isEqualTo("bbb");
+        assertThat(top.get(1).getPlayerName()).isEqualTo("aaa");
+        assertThat(top.get(1).getRank()).isEqualTo(2);
+        assertThat(top.get(2).getRank()).isEqualTo(2);
+        assertThat(leaderboard.rank(Duration.ofHours(1), 90)).isEqualTo(4);
+        assertThat(leaderboard.count(MINUTE)).isEqualTo(3);
+    }
+
+    @DisplayName("창을 벗어난 bucket 의 게임은 조회에서 빠진다")
+    @Test
+    public void top_success_expired() throws Exception {
+        //given
+        MutableClock clock = new MutableClock();
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(clock, MINUTE, 60, 10);
+        leaderboard.record("aaa", 290);
+        clock.advance(Duration.ofMinutes(30));
+        leaderboard.record("bbb", 100);
+
+        //when
+        clock.advance(Duration.ofMinutes(30));
+
+        //then
+        List<LeaderboardEntry> top = leaderboard.top(Duration.ofHours(1), 10);
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).getPlayerName()).isEqualTo("bbb");
+        assertThat(leaderboard.count(Duration.ofMinutes(10))).isEqualTo(0);
+    }
+
+    @DisplayName("ring 을 한 바퀴 돈 bucket 은 새 bucket 으로 바뀐다")
+    @Test
+    public void record_success_reuseSlot() throws Exception {
+        //given
+        MutableClock clock = new MutableClock();
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(clock, MINUTE, 3, 10);
+        leaderboard.record("aaa", 200);
+
+        //when
+        clock.advance(Duration.ofMinutes(3));
+        leaderboard.record("bbb", 100);
+
+        //then
+        assertThat(leaderboard.count(Duration.ofMinutes(3))).isEqualTo(1);
+        assertThat(leaderboard.rank(Duration.ofMinutes(3), 100)).isEqualTo(1);
+    }
+
+    @DisplayName("bucket 마다 상위 게임만 남겨도 합친 상위 순위와 전체 순위는 정확하다")
+    @Test
+    public void top_success_boundedPerBucket() throws Exception {
+        //given
+        MutableClock clock = new MutableClock();
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(clock, MINUTE, 60, 3);
+        for (int i = 0; i < 500; i++) {
+            leaderboard.record(String.format("%03d", 999 - i), 200);
+        }
+        leaderboard.record("BBB", 150);
+        clock.advance(MINUTE);
+        leaderboard.record("AAA", 250);
+        leaderboard.record("CCC", 200);
+
+        //when
+        List<LeaderboardEntry> top = leaderboard.top(Duration.ofHours(1), 3);
+
+        //then
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getPlayerName()).isEqualTo("AAA");
+        assertThat(top.get(1).getPlayerName()).isEqualTo("500");
+        assertThat(top.get(2).getPlayerName()).isEqualTo("501");
+        assertThat(top.get(2).getRank()).isEqualTo(2);
+        assertThat(leaderboard.rank(Duration.ofHours(1), 150)).isEqualTo(503);
+        assertThat(leaderboard.count(Duration.ofHours(1))).isEqualTo(503);
+    }
+
+    @DisplayName("보관하는 상위 개수보다 많이 조회할 수 없다")
+    @Test
+    public void top_fail_size() throws Exception {
+        //given
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(new MutableClock(), MINUTE, 60, 10);
+
+        //then
+        assertThatThrownBy(() -> leaderboard.top(Duration.ofHours(1), 11))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("보관 기간보다 긴 창은 조회할 수 없다")
+    @Test
+    public void top_fail_window() throws Exception {
+        //given
+        WindowedLeaderboard leaderboard = new WindowedLeaderboard(new MutableClock(), MINUTE, 60, 10);
+
+        //then
+        assertThatThrownBy(() -> leaderboard.top(Duration.ofHours(2), 10))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2020-05-01T10:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
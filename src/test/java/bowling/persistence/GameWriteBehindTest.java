@@ -0,0 +1,179 @@
+package bowling.persistence;
+
+import bowling.domain.Player;
+import bowling.lane.LaneGame;
+import bowling.view.ScoreBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameWriteBehindTest {
+
+    private final GameRecordRepository gameRecordRepository = mock(GameRecordRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private void play(GameWriteBehind writeBehind, int laneId, LaneGame game, int... pins) {
+        for (int pin : pins) {
+            game.play(pin);
+            writeBehind.onUpdate(laneId, game, ScoreBoard.of(game.getGame()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("flush 사이의 여러 투구는 게임별 최신 상태 하나로 합쳐져 한번에 저장된다")
+    @Test
+    public void flush_success_coalesce() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+        LaneGame first = new LaneGame(new Player("PJS"));
+        LaneGame second = new LaneGame(new Player("KJH"));
+        when(gameRecordRepository.findAllById(anyIterable())).thenReturn(Collections.emptyList());
+
+        //when
+        play(writeBehind, 1, first, 10, 7, 3, 4);
+        play(writeBehind, 2, second, 1, 2);
+        int flushed = writeBehind.flush();
+
+        //then
+        ArgumentCaptor<List<GameRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameRecordRepository).saveAll(captor.capture());
+
+        assertThat(flushed).isEqualTo(2);
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(writeBehind.pendingCount()).isEqualTo(0);
+
+        GameRecord record = captor.getValue().stream()
+                .filter(it -> it.getId().equals(first.getId()))
+                .findFirst()
+                .get();
+        assertThat(record.getRolls()).isEqualTo(new byte[]{10, 7, 3, 4});
+        assertThat(record.getScore()).isEqualTo(34);
+        assertThat(record.isNew()).isTrue();
+    }
+
+    @DisplayName("이미 저장된 게임은 새로 insert 하지 않고 기존 레코드를 갱신한다")
+    @Test
+    public void flush_success_update() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+        LaneGame game = new LaneGame(new Player("PJS"));
+        play(writeBehind, 1, game, 3, 4);
+        GameRecord saved = new GameRecord(new GameSnapshot(1, game, ScoreBoard.of(game.getGame())));
+        when(gameRecordRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(saved));
+
+        //when
+        play(writeBehind, 1, game, 5, 5);
+        writeBehind.flush();
+
+        //then
+        verify(gameRecordRepository).saveAll(Collections.emptyList());
+        assertThat(saved.getRollCount()).isEqualTo(4);
+        assertThat(saved.getRolls()).isEqualTo(new byte[]{3, 4, 5, 5});
+    }
+
+    @DisplayName("대기 중인 게임이 없으면 저장하지 않는다")
+    @Test
+    public void flush_success_empty() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+
+        //when
+        int flushed = writeBehind.flush();
+
+        //then
+        assertThat(flushed).isEqualTo(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("batch 저장이 실패하면 게임별로 다시 저장해 정상인 게임은 그 flush 에서 저장된다")
+    @Test
+    public void flush_fail_saveHealthyGames() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+        LaneGame healthy = new LaneGame(new Player("PJS"));
+        LaneGame broken = new LaneGame(new Player("KJH"));
+        play(writeBehind, 1, healthy, 3, 4);
+        play(writeBehind, 2, broken, 1, 2);
+        when(gameRecordRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            for (Object id : (Iterable<Object>) invocation.getArgument(0)) {
+                if (id.equals(broken.getId())) {
+                    throw new IllegalStateException("broken record");
+                }
+            }
+            return Collections.emptyList();
+        });
+
+        //when
+        int flushed = writeBehind.flush();
+
+        //then
+        ArgumentCaptor<List<GameRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameRecordRepository).saveAll(captor.capture());
+        assertThat(flushed).isEqualTo(1);
+        assertThat(captor.getValue().get(0).getId()).isEqualTo(healthy.getId());
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+    }
+
+    @DisplayName("계속 실패하는 스냅샷은 정해진 횟수만큼 시도한 뒤 버리고 dead letter 로 센다")
+    @Test
+    public void flush_fail_deadLetter() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+        LaneGame game = new LaneGame(new Player("PJS"));
+        play(writeBehind, 1, game, 3, 4);
+        when(gameRecordRepository.findAllById(anyIterable())).thenThrow(new IllegalStateException("db down"));
+
+        //when
+        writeBehind.flush();
+        writeBehind.flush();
+        int pendingBeforeLast = writeBehind.pendingCount();
+        writeBehind.flush();
+
+        //then
+        assertThat(pendingBeforeLast).isEqualTo(1);
+        assertThat(writeBehind.pendingCount()).isEqualTo(0);
+        assertThat(writeBehind.deadLetterCount()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("실패한 스냅샷을 되돌릴 때 그 사이 들어온 더 새로운 스냅샷을 덮어쓰지 않는다")
+    @Test
+    public void flush_fail_keepNewerSnapshot() throws Exception {
+        //given
+        GameWriteBehind writeBehind = new GameWriteBehind(gameRecordRepository, transactionManager, 60_000);
+        LaneGame game = new LaneGame(new Player("PJS"));
+        play(writeBehind, 1, game, 3, 4);
+        AtomicInteger calls = new AtomicInteger();
+        when(gameRecordRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                play(writeBehind, 1, game, 5);
+            }
+            if (call <= 2) {
+                throw new IllegalStateException("db down");
+            }
+            return Collections.emptyList();
+        });
+
+        //when
+        writeBehind.flush();
+        int flushed = writeBehind.flush();
+
+        //then
+        ArgumentCaptor<List<GameRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameRecordRepository).saveAll(captor.capture());
+        assertThat(flushed).isEqualTo(1);
+        assertThat(captor.getValue().get(0).getRolls()).isEqualTo(new byte[]{3, 4, 5});
+    }
+}
@@ -0,0 +1,61 @@
+package bowling.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSimulatorTest {
+
+    @DisplayName("항상 스트라이크를 치면 모든 게임이 290점이다")
+    @Test
+    public void simulate_success_perfect() throws Exception {
+        //given
+        SkillProfile perfect = new SkillProfile("perfect", new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}, 1);
+
+        //when
+        SimulationResult result = new GameSimulator().simulate(perfect, 1_000, 1);
+
+        //then
+        assertThat(result.getGames()).isEqualTo(1_000);
+        assertThat(result.getCount(290)).isEqualTo(1_000);
+    }
+
+    @DisplayName("같은 seed 면 병렬 처리 수와 관계없이 같은 분포가 나온다")
+    @Test
+    public void simulate_success_deterministic() throws Exception {
+        //given
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+
+        //when
+        SimulationResult first = new GameSimulator(single).simulate(SkillProfile.AMATEUR, 50_000, 42);
+        SimulationResult second = new GameSimulator(parallel).simulate(SkillProfile.AMATEUR, 50_000, 42);
+        single.shutdown();
+        parallel.shutdown();
+
+        //then
+        for (int score = 0; score <= 300; score++) {
+            assertThat(first.getCount(score)).isEqualTo(second.getCount(score));
+        }
+        assertThat(first.getGames()).isEqualTo(50_000);
+        assertThat(first.getMax()).isLessThanOrEqualTo(290);
+    }
+
+    @DisplayName("실력이 높은 프로필일수록 평균 점수가 높다")
+    @Test
+    public void simulate_success_profiles() throws Exception {
+        //given
+        GameSimulator simulator = new GameSimulator();
+
+        //when
+        SimulationResult beginner = simulator.simulate(SkillProfile.BEGINNER, 20_000, 7);
+        SimulationResult pro = simulator.simulate(SkillProfile.PRO, 20_000, 7);
+
+        //then
+        assertThat(beginner.getMean()).isLessThan(pro.getMean());
+        assertThat(beginner.getPercentile(50)).isLessThan(pro.getPercentile(50));
+    }
+}
@@ -0,0 +1,44 @@
+package bowling.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillProfileTest {
+
+    @DisplayName("항상 스트라이크를 치면 10 프레임 보너스 투구까지 11번 던진다")
+    @Test
+    public void randomGame_success_perfect() throws Exception {
+        //given
+        SkillProfile perfect = new SkillProfile("perfect", new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}, 1);
+
+        //when
+        byte[] rolls = perfect.randomGame(new SplittableRandom(1));
+
+        //then
+        assertThat(rolls).hasSize(11);
+        for (byte pins : rolls) {
+            assertThat(pins).isEqualTo((byte) 10);
+        }
+    }
+
+    @DisplayName("매 프레임 스페어면 10 프레임 보너스 투구까지 21번 던진다")
+    @Test
+    public void randomGame_success_allSpares() throws Exception {
+        //given
+        SkillProfile spares = new SkillProfile("spares", new double[]{1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 1);
+
+        //when
+        byte[] rolls = spares.randomGame(new SplittableRandom(1));
+
+        //then
+        assertThat(rolls).hasSize(21);
+        for (int i = 0; i < 20; i++) {
+            assertThat(rolls[i]).isEqualTo((byte) (i % 2 == 0 ? 0 : 10));
+        }
+        assertThat(rolls[20]).isEqualTo((byte) 0);
+    }
+}
@@ -0,0 +1,94 @@
+package bowling.statistics;
+
+import bowling.domain.Player;
+import bowling.domain.PlayerRegistry;
+import bowling.domain.frame.FrameResult;
+import bowling.lane.Lane;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerStatisticsTest {
+
+    @DisplayName("레인에서 끝난 프레임과 게임으로 플레이어 통계를 집계한다")
+    @Test
+    public void record_success_lane() throws Exception {
+        //given
+        PlayerStatistics statistics = new PlayerStatistics(new PlayerRegistry(), 4);
+        Lane lane = new Lane(1, statistics);
+        lane.start(new Player("aaa")).join();
+
+        //when
+        lane.play(10).join();
+        lane.play(7).join();
+        lane.play(3).join();
+        lane.play(0).join();
+        lane.play(0).join();
+        for (int i = 0; i < 14; i++) {
+            lane.play(4).join();
+        }
+
+        //then
+        PlayerStatsSnapshot snapshot = statistics.find("aaa").get();
+        assertThat(snapshot.getFrames()).isEqualTo(10);
+        assertThat(snapshot.getStrikes()).isEqualTo(1);
+        assertThat(snapshot.getSpares()).isEqualTo(1);
+        assertThat(snapshot.getOpenFrames()).isEqualTo(8);
+        assertThat(snapshot.getGutters()).isEqualTo(1);
+        assertThat(snapshot.getGames()).isEqualTo(1);
+        assertThat(snapshot.getStrikeRate()).isEqualTo(0.1);
+        assertThat(snapshot.getAverage()).isEqualTo(86.0);
+    }
+
+    @DisplayName("기록이 없는 플레이어는 빈 값을 돌려준다")
+    @Test
+    public void find_success_empty() throws Exception {
+        //given
+        PlayerStatistics statistics = new PlayerStatistics(new PlayerRegistry(), 4);
+
+        //then
+        assertThat(statistics.find("aaa").isPresent()).isFalse();
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 읽는 쪽은 한 게임 단위로 일관된 값을 본다")
+    @Test
+    public void find_success_consistentSnapshot() throws Exception {
+        //given
+        PlayerRegistry playerRegistry = new PlayerRegistry();
+        PlayerStatistics statistics = new PlayerStatistics(playerRegistry, 2);
+        int key = playerRegistry.keyOf("aaa");
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        AtomicBoolean inconsistent = new AtomicBoolean();
+
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            threads.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    statistics.record(key, FrameResult.STRIKE);
+                    statistics.recordGame(key, 100);
+                }
+            });
+        }
+        threads.shutdown();
+        while (!threads.isTerminated()) {
+            statistics.find("aaa").ifPresent(snapshot -> {
+                if (snapshot.getGames() > 0 && snapshot.getAverage() != 100.0) {
+                    inconsistent.set(true);
+                }
+            });
+        }
+        threads.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        PlayerStatsSnapshot snapshot = statistics.find("aaa").get();
+        assertThat(inconsistent.get()).isFalse();
+        assertThat(snapshot.getStrikes()).isEqualTo(80_000);
+        assertThat(snapshot.getGames()).isEqualTo(80_000);
+    }
+}
@@ -0,0 +1,123 @@
+package bowling.statistics;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    private byte[] sketchBytes(int bucket, long count) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeDouble(ACCURACY);
+        out.writeDouble(0.1);
+        out.writeDouble(10);
+        out.writeInt(1);
+        out.writeInt(bucket);
+        out.writeLong(count);
+        return bytes.toByteArray();
+    }
+
+    @DisplayName("분위 값은 정렬한 실제 값과 상대 오차 안에서 같다")
+    @Test
+    public void quantile_success_relativeAccuracy() throws Exception {
+        //given
+        QuantileSketch sketch = new QuantileSketch(ACCURACY, 0.1, 10);
+        SplittableRandom random = new SplittableRandom(7);
+        double[] values = new double[10_000];
+
+        //when
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0.1 + random.nextDouble() * 9.9;
+            sketch.add(values[i]);
+        }
+
+        //then
+        Arrays.sort(values);
+        for (double quantile : new double[]{0.01, 0.25, 0.5, 0.75, 0.99}) {
+            double expected = values[(int) Math.floor(quantile * (values.length - 1))];
+            assertThat(Math.abs(sketch.quantile(quantile) - expected) / expected).isLessThanOrEqualTo(ACCURACY);
+        }
+    }
+
+    @DisplayName("나누어 기록한 sketch 를 합치면 한 번에 기록한 것과 같다")
+    @Test
+    public void merge_success() throws Exception {
+        //given
+        QuantileSketch whole = new QuantileSketch(ACCURACY, 0.1, 10);
+        QuantileSketch first = new QuantileSketch(ACCURACY, 0.1, 10);
+        QuantileSketch second = new QuantileSketch(ACCURACY, 0.1, 10);
+        for (int i = 0; i <= 100; i++) {
+            double value = i / 10.0;
+            whole.add(value);
+            (i % 2 == 0 ? first : second).add(value);
+        }
+
+        //when
+        first.merge(second);
+
+        //then
+        assertThat(first.count()).isEqualTo(101);
+        assertThat(first.quantile(0.5)).isEqualTo(whole.quantile(0.5));
+        assertThat(first.quantile(0.9)).isEqualTo(whole.quantile(0.9));
+        assertThat(first.quantile(0)).isEqualTo(0.0);
+    }
+
+    @DisplayName("설정이 다른 sketch 는 합칠 수 없다")
+    @Test
+    public void merge_fail_incompatible() throws Exception {
+        //given
+        QuantileSketch sketch = new QuantileSketch(ACCURACY, 0.1, 10);
+
+        //then
+        assertThatThrownBy(() -> sketch.merge(new QuantileSketch(0.02, 0.1, 10)))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("직렬화한 sketch 를 다시 읽으면 같은 분위를 돌려준다")
+    @Test
+    public void write_success_roundTrip() throws Exception {
+        //given
+        QuantileSketch sketch = new QuantileSketch(ACCURACY, 0.1, 10);
+        for (int i = 1; i <= 50; i++) {
+            sketch.add(i / 5.0);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        //when
+        sketch.write(new DataOutputStream(bytes));
+        QuantileSketch read = QuantileSketch.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        //then
+        assertThat(read.count()).isEqualTo(50);
+        assertThat(read.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        read.merge(sketch);
+        assertThat(read.count()).isEqualTo(100);
+    }
+
+    @DisplayName("범위를 벗어난 bucket 이나 음수 개수가 담긴 데이터는 읽을 수 없다")
+    @Test
+    public void read_fail_corrupt() throws Exception {
+        //given
+        byte[] outOfRange = sketchBytes(Integer.MAX_VALUE, 1);
+        byte[] negativeCount = sketchBytes(0, -1);
+
+        //then
+        assertThatThrownBy(() -> QuantileSketch.read(new DataInputStream(new ByteArrayInputStream(outOfRange))))
+                .isInstanceOf(BowlingException.class);
+        assertThatThrownBy(() -> QuantileSketch.read(new DataInputStream(new ByteArrayInputStream(negativeCount))))
+                .isInstanceOf(BowlingException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package bowling.statistics;
+
+import bowling.domain.Player;
+import bowling.domain.PlayerRegistry;
+import bowling.lane.Lane;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreDistributionsTest {
+
+    @DisplayName("레인에서 끝난 게임을 센터와 플레이어 분포에 더한다")
+    @Test
+    public void record_success_lane() throws Exception {
+        //given
+        ScoreDistributions distributions = new ScoreDistributions(new PlayerRegistry());
+        Lane lane = new Lane(1, distributions);
+        lane.start(new Player("aaa")).join();
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            lane.play(4).join();
+        }
+
+        //then
+        ScoreDistributionSnapshot player = distributions.find("aaa").get();
+        assertThat(player.getGames()).isEqualTo(1);
+        assertThat(player.getMedian()).isEqualTo(80);
+        assertThat(Math.abs(player.getFirstBallMedian() - 4) / 4).isLessThanOrEqualTo(0.01);
+        assertThat(distributions.center().getGames()).isEqualTo(1);
+        assertThat(distributions.find("bbb").isPresent()).isFalse();
+    }
+
+    @DisplayName("프레임 초구 평균은 스트라이크 프레임을 한 투구로 센다")
+    @Test
+    public void firstBallAverage_success() throws Exception {
+        //given
+        byte[] rolls = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+
+        //then
+        assertThat(ScoreDistribution.firstBallAverage(rolls)).isEqualTo(10.0);
+        assertThat(ScoreDistribution.firstBallAverage(new byte[]{5, 5, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0})).isEqualTo(0.5);
+    }
+
+    @DisplayName("다른 노드에서 직렬화한 분포를 센터 분포에 합친다")
+    @Test
+    public void mergeCenter_success() throws Exception {
+        //given
+        ScoreDistributions local = new ScoreDistributions(new PlayerRegistry());
+        ScoreDistributions remote = new ScoreDistributions(new PlayerRegistry());
+        byte[] rolls = {4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4};
+        local.record(1, 80, rolls);
+        remote.record(1, 120, rolls);
+        remote.record(2, 200, rolls);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        remote.getCenter().write(new DataOutputStream(bytes));
+
+        //when
+        local.mergeCenter(ScoreDistribution.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+
+        //then
+        ScoreDistributionSnapshot center = local.center();
+        assertThat(center.getGames()).isEqualTo(3);
+        assertThat(center.getMedian()).isEqualTo(120);
+        assertThat(center.getAverage()).isEqualTo(400 / 3.0);
+    }
+}
@@ -0,0 +1,106 @@
+package bowling.statistics;
+
+import bowling.exception.BowlingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreHistogramTest {
+
+    @DisplayName("점수별로 세어 평균과 분위를 정확히 구한다")
+    @Test
+    public void quantile_success() throws Exception {
+        //given
+        ScoreHistogram histogram = new ScoreHistogram();
+
+        //when
+        for (int score = 1; score <= 100; score++) {
+            histogram.add(score);
+        }
+
+        //then
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.mean()).isEqualTo(50.5);
+        assertThat(histogram.quantile(0)).isEqualTo(1);
+        assertThat(histogram.quantile(0.5)).isEqualTo(50);
+        assertThat(histogram.quantile(0.9)).isEqualTo(90);
+        assertThat(histogram.quantile(1)).isEqualTo(100);
+    }
+
+    @DisplayName("두 히스토그램을 합치면 칸별 개수가 더해진다")
+    @Test
+    public void merge_success() throws Exception {
+        //given
+        ScoreHistogram first = new ScoreHistogram();
+        ScoreHistogram second = new ScoreHistogram();
+        first.add(100);
+        first.add(290);
+        second.add(100);
+
+        //when
+        first.merge(second);
+
+        //then
+        assertThat(first.count()).isEqualTo(3);
+        assertThat(first.count(100)).isEqualTo(2);
+        assertThat(first.count(290)).isEqualTo(1);
+    }
+
+    @DisplayName("직렬화한 히스토그램을 다시 읽으면 같은 분포가 된다")
+    @Test
+    public void write_success_roundTrip() throws Exception {
+        //given
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(0);
+        histogram.add(150, 7);
+        histogram.add(300);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        //when
+        histogram.write(new DataOutputStream(bytes));
+        ScoreHistogram read = ScoreHistogram.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        //then
+        assertThat(bytes.size()).isEqualTo(2 + 3 * 10);
+        assertThat(read.count()).isEqualTo(9);
+        assertThat(read.count(150)).isEqualTo(7);
+        assertThat(read.count(300)).isEqualTo(1);
+    }
+
+    @DisplayName("범위를 벗어난 점수는 예외가 발생한다")
+    @Test
+    public void add_fail_range() throws Exception {
+        //given
+        ScoreHistogram histogram = new ScoreHistogram();
+
+        //then
+        assertThatThrownBy(() -> histogram.add(301))
+                .isInstanceOf(BowlingException.class);
+    }
+
+    @DisplayName("음수 개수를 더하거나 음수 개수가 담긴 데이터를 읽으면 예외가 발생한다")
+    @Test
+    public void add_fail_negativeCount() throws Exception {
+        //given
+        ScoreHistogram histogram = new ScoreHistogram();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(1);
+        out.writeShort(150);
+        out.writeLong(-1);
+
+        //then
+        assertThatThrownBy(() -> histogram.add(150, -1))
+                .isInstanceOf(BowlingException.class);
+        assertThatThrownBy(() -> ScoreHistogram.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))))
+                .isInstanceOf(BowlingException.class);
+        assertThat(histogram.count()).isEqualTo(0);
+    }
+}
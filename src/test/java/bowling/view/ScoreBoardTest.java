@@ -0,0 +1,78 @@
+package bowling.view;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.domain.pin.PinMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreBoardTest {
+
+    private BowlingGame play(int... pins) {
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+        for (int pin : pins) {
+            game.play(pin);
+        }
+        return game;
+    }
+
+    @DisplayName("투구 전에는 빈 점수판을 만든다")
+    @Test
+    public void of_success_empty() throws Exception {
+        //when
+        ScoreBoard scoreBoard = ScoreBoard.of(play());
+
+        //then
+        assertThat(scoreBoard.getPlayerName()).isEqualTo("aaa");
+        assertThat(scoreBoard.getMarks()).isEmpty();
+        assertThat(scoreBoard.getScores()).isEmpty();
+    }
+
+    @DisplayName("보너스를 기다리는 프레임부터는 누적 점수를 표시하지 않는다")
+    @Test
+    public void of_success_pendingBonus() throws Exception {
+        //when
+        ScoreBoard scoreBoard = ScoreBoard.of(play(8, 1, 10, 5, 5, 0));
+
+        //then
+        assertThat(scoreBoard.getMarks()).containsExactly("8|1", "X", "5|/", "-");
+        assertThat(scoreBoard.getScores()).containsExactly(9, 29, 39);
+        assertFalse(scoreBoard.isFinish());
+    }
+
+    @DisplayName("마지막 프레임까지 끝나면 10개 프레임의 누적 점수를 모두 표시한다")
+    @Test
+    public void of_success_finish() throws Exception {
+        //when
+        ScoreBoard scoreBoard = ScoreBoard.of(play(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10));
+
+        //then
+        assertThat(scoreBoard.getMarks()).containsExactly("X", "X", "X", "X", "X", "X", "X", "X", "X", "X|X");
+        assertThat(scoreBoard.getScores()).containsExactly(30, 60, 90, 120, 150, 180, 210, 240, 270, 290);
+        assertTrue(scoreBoard.isFinish());
+    }
+
+    @DisplayName("남은 핀 mask 로 던지면 leave 를 보여주고 스플릿은 첫 투구 수를 괄호로 표시한다")
+    @Test
+    public void of_success_leaves() throws Exception {
+        //given
+        BowlingGame game = new BowlingGame(new Player("aaa"));
+
+        //when
+        game.playMask(PinMask.of(7, 10));
+        game.playMask(PinMask.of(10));
+        game.playMask(PinMask.of(4, 7));
+        game.playMask(PinMask.NONE);
+        game.play(10);
+
+        //then
+        ScoreBoard scoreBoard = ScoreBoard.of(game);
+        assertThat(scoreBoard.getMarks()).containsExactly("(8)|1", "8|/", "X");
+        assertThat(scoreBoard.getLeaves()).containsExactly("7-10", "4-7", "");
+        assertThat(scoreBoard.getScores()).containsExactly(9, 29);
+    }
+}
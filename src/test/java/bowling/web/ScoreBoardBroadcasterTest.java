@@ -0,0 +1,102 @@
+package bowling.web;
+
+import bowling.domain.BowlingGame;
+import bowling.domain.Player;
+import bowling.view.ScoreBoard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreBoardBroadcasterTest {
+
+    private final ScoreBoardBroadcaster broadcaster = new ScoreBoardBroadcaster(new ObjectMapper());
+    private final BowlingGame game = new BowlingGame(new Player("aaa"));
+
+    private ScoreBoard play(int pins) {
+        game.play(pins);
+        return ScoreBoard.of(game);
+    }
+
+    @DisplayName("점수판을 SSE 이벤트로 한번만 직렬화해 모든 구독자에게 같은 byte[] 를 보낸다")
+    @Test
+    public void stream_success_sharedBytes() throws Exception {
+        //given
+        AtomicReference<byte[]> first = new AtomicReference<>();
+        Disposable subscriber = broadcaster.stream(1, () -> null).subscribe();
+
+        //when
+        broadcaster.onUpdate(1, null, play(10));
+
+        //then
+        StepVerifier.create(broadcaster.stream(1, () -> null).take(1))
+                .consumeNextWith(first::set)
+                .verifyComplete();
+        StepVerifier.create(broadcaster.stream(1, () -> null).take(1))
+                .consumeNextWith(event -> assertThat(event).isSameAs(first.get()))
+                .verifyComplete();
+        subscriber.dispose();
+
+        String event = new String(first.get(), StandardCharsets.UTF_8);
+        assertThat(event).startsWith("data:{");
+        assertThat(event).endsWith("}\n\n");
+    }
+
+    @DisplayName("느린 구독자는 중간 점수판을 건너뛰고 최신 점수판을 받는다")
+    @Test
+    public void stream_success_dropStale() throws Exception {
+        //given
+        ScoreBoard current = play(1);
+
+        //then
+        StepVerifier.create(broadcaster.stream(2, () -> current), 1)
+                .expectNextCount(1)
+                .then(() -> {
+                    broadcaster.onUpdate(2, null, play(2));
+                    broadcaster.onUpdate(2, null, play(3));
+                    broadcaster.onUpdate(2, null, play(4));
+                })
+                .thenRequest(1)
+                .consumeNextWith(event -> assertThat(new String(event, StandardCharsets.UTF_8))
+                        .contains("\"marks\":[\"1|2\",\"3|4\"]"))
+                .thenCancel()
+                .verify();
+    }
+
+    @DisplayName("구독 시작 시 레인의 현재 점수판을 먼저 보낸다")
+    @Test
+    public void stream_success_seedCurrent() throws Exception {
+        //given
+        ScoreBoard current = play(7);
+
+        //then
+        StepVerifier.create(broadcaster.stream(3, () -> current).take(1))
+                .consumeNextWith(event -> assertThat(new String(event, StandardCharsets.UTF_8))
+                        .startsWith("data:{").contains("\"aaa\""))
+                .verifyComplete();
+    }
+
+    @DisplayName("마지막 구독자가 떠나면 채널을 제거하고, 구독자가 없는 레인의 갱신은 채널을 만들지 않는다")
+    @Test
+    public void stream_success_releaseChannel() throws Exception {
+        //given
+        Disposable first = broadcaster.stream(4, () -> null).subscribe();
+        Disposable second = broadcaster.stream(4, () -> null).subscribe();
+
+        //when
+        first.dispose();
+        int afterFirst = broadcaster.channelCount();
+        second.dispose();
+        broadcaster.onUpdate(5, null, play(1));
+
+        //then
+        assertThat(afterFirst).isEqualTo(1);
+        assertThat(broadcaster.channelCount()).isZero();
+    }
+}
@@ -0,0 +1,51 @@
+package qna.benchmark;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+    private final String name;
+    private long[] samples;
+    private int size;
+
+    public LatencyRecorder(String name, int expectedSamples) {
+        this.name = name;
+        this.samples = new long[Math.max(expectedSamples, 16)];
+    }
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long percentileNanos(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    public String report() {
+        return String.format("%-40s count=%8d p50=%8.3fms p99=%8.3fms max=%8.3fms",
+                name, size, millis(percentileNanos(50)), millis(percentileNanos(99)), millis(percentileNanos(100)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
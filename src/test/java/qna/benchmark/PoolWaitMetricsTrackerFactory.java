@@ -0,0 +1,35 @@
+package qna.benchmark;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PoolWaitMetricsTrackerFactory implements MetricsTrackerFactory {
+    private final LatencyRecorder acquireRecorder = new LatencyRecorder("connection acquire", 1 << 16);
+    private final LongAdder timeouts = new LongAdder();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                synchronized (acquireRecorder) {
+                    acquireRecorder.record(elapsedAcquiredNanos);
+                }
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public String report() {
+        synchronized (acquireRecorder) {
+            return acquireRecorder.report() + String.format(" timeouts=%d", timeouts.sum());
+        }
+    }
+}
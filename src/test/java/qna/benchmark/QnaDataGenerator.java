@@ -0,0 +1,57 @@
+package qna.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class QnaDataGenerator {
+    private static final int DELETED_EVERY = 10;
+    private static final int FOREIGN_ANSWER_EVERY = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QnaDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static long writerOf(long questionId, int users) {
+        return (questionId - 1) % users + 1;
+    }
+
+    public void seed(int users, int questions, int answersPerQuestion) {
+        clear();
+        seedUsers(users);
+        seedQuestions(questions, users);
+        seedAnswers(questions, answersPerQuestion, users);
+        jdbcTemplate.execute("analyze");
+    }
+
+    private void clear() {
+        jdbcTemplate.execute("delete from delete_history");
+        jdbcTemplate.execute("delete from answer");
+        jdbcTemplate.execute("delete from question");
+        jdbcTemplate.execute("delete from user");
+    }
+
+    private void seedUsers(int users) {
+        jdbcTemplate.update("insert into user (id, created_at, user_id, password, name, email) " +
+                "select x, current_timestamp, 'user' || x, 'password', 'name' || x, 'user' || x || '@slipp.net' " +
+                "from system_range(1, ?)", users);
+        jdbcTemplate.execute("alter table user alter column id restart with " + (users + 1));
+    }
+
+    private void seedQuestions(int questions, int users) {
+        jdbcTemplate.update("insert into question (id, version, created_at, title, contents, writer_id, deleted) " +
+                "select x, 0, current_timestamp, 'title' || x, 'contents' || x, mod(x - 1, ?) + 1, mod(x, ?) = 0 " +
+                "from system_range(1, ?)", users, DELETED_EVERY, questions);
+        jdbcTemplate.execute("alter table question alter column id restart with " + (questions + 1));
+    }
+
+    private void seedAnswers(int questions, int answersPerQuestion, int users) {
+        long answers = (long) questions * answersPerQuestion;
+        jdbcTemplate.update("insert into answer (id, version, created_at, contents, question_id, writer_id, deleted) " +
+                        "select x, 0, current_timestamp, 'answer' || x, (x - 1) / ? + 1, " +
+                        "case when mod(x, ?) = 0 then mod(x, ?) + 1 else mod((x - 1) / ?, ?) + 1 end, mod(x, ?) = 0 " +
+                        "from system_range(1, ?)",
+                answersPerQuestion, FOREIGN_ANSWER_EVERY, users, answersPerQuestion, users, DELETED_EVERY, answers);
+        jdbcTemplate.execute("alter table answer alter column id restart with " + (answers + 1));
+    }
+}
@@ -0,0 +1,142 @@
+package qna.benchmark;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import qna.CannotDeleteException;
+import qna.NotFoundException;
+import qna.domain.User;
+import qna.service.QnAService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QnaLoadDriver {
+    private final QnAService qnAService;
+    private final int users;
+    private final int questions;
+    private final double readRatio;
+
+    private final LongAdder lockConflicts = new LongAdder();
+    private final LongAdder cannotDelete = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder otherErrors = new LongAdder();
+
+    public QnaLoadDriver(QnAService qnAService, int users, int questions, double readRatio) {
+        this.qnAService = qnAService;
+        this.users = users;
+        this.questions = questions;
+        this.readRatio = readRatio;
+    }
+
+    public String run(int threads, long durationMillis) throws InterruptedException {
+        List<Worker> workers = new ArrayList<>();
+        SplittableRandom seed = new SplittableRandom(42);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(seed.split(), start, done, deadline);
+            workers.add(worker);
+            new Thread(worker, "qna-load-" + i).start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - begin;
+
+        return report(workers, elapsedNanos);
+    }
+
+    private String report(List<Worker> workers, long elapsedNanos) {
+        LatencyRecorder reads = new LatencyRecorder("findQuestionById", 1 << 16);
+        LatencyRecorder deletes = new LatencyRecorder("deleteQuestion", 1 << 16);
+
+        for (Worker worker : workers) {
+            reads.merge(worker.reads);
+            deletes.merge(worker.deletes);
+        }
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("threads=%d elapsed=%.1fs throughput=%.0f ops/s%n",
+                workers.size(), seconds, (reads.count() + deletes.count()) / seconds));
+        report.append(reads.report()).append(String.format(" %.0f ops/s%n", reads.count() / seconds));
+        report.append(deletes.report()).append(String.format(" %.0f ops/s%n", deletes.count() / seconds));
+        report.append(String.format("lockConflicts=%d cannotDelete=%d notFound=%d otherErrors=%d",
+                lockConflicts.sum(), cannotDelete.sum(), notFound.sum(), otherErrors.sum()));
+        return report.toString();
+    }
+
+    private class Worker implements Runnable {
+        private final SplittableRandom random;
+        private final CountDownLatch start;
+        private final CountDownLatch done;
+        private final long deadline;
+        private final LatencyRecorder reads = new LatencyRecorder("findQuestionById", 1 << 12);
+        private final LatencyRecorder deletes = new LatencyRecorder("deleteQuestion", 1 << 12);
+
+        Worker(SplittableRandom random, CountDownLatch start, CountDownLatch done, long deadline) {
+            this.random = random;
+            this.start = start;
+            this.done = done;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    execute();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void execute() {
+            long questionId = random.nextInt(questions) + 1L;
+            boolean read = random.nextDouble() < readRatio;
+            long begin = System.nanoTime();
+
+            try {
+                if (read) {
+                    qnAService.findQuestionById(questionId);
+                } else {
+                    qnAService.deleteQuestion(writer(questionId), questionId);
+                }
+            } catch (PessimisticLockingFailureException | OptimisticLockingFailureException e) {
+                lockConflicts.increment();
+            } catch (CannotDeleteException e) {
+                cannotDelete.increment();
+            } catch (NotFoundException e) {
+                notFound.increment();
+            } catch (RuntimeException e) {
+                otherErrors.increment();
+            } finally {
+                record(read, System.nanoTime() - begin);
+            }
+        }
+
+        private void record(boolean read, long nanos) {
+            if (read) {
+                reads.record(nanos);
+                return;
+            }
+            deletes.record(nanos);
+        }
+
+        private User writer(long questionId) {
+            long writerId = QnaDataGenerator.writerOf(questionId, users);
+            return new User(writerId, "user" + writerId, "password", "name" + writerId, "user" + writerId + "@slipp.net");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package qna.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import qna.service.QnAService;
+
+/**
+ * -Dbenchmark.load=true 로 실행한다. build/loadtest 아래의 파일 H2 에 데이터를 만든 뒤
+ * 여러 스레드에서 조회/삭제를 섞어 호출하고 처리량, 지연 시간, 커넥션 풀 대기 시간, 락 충돌을 출력한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark.load", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/loadtest/qna;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=${benchmark.poolSize:10}",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class QnaLoadTest {
+    private static final int USERS = Integer.getInteger("benchmark.users", 1_000);
+    private static final int QUESTIONS = Integer.getInteger("benchmark.questions", 100_000);
+    private static final int ANSWERS_PER_QUESTION = Integer.getInteger("benchmark.answersPerQuestion", 3);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final long DURATION_MILLIS = Long.getLong("benchmark.durationMillis", 30_000L);
+    private static final double READ_RATIO = Double.parseDouble(System.getProperty("benchmark.readRatio", "0.9"));
+
+    @TestConfiguration
+    static class PoolMetricsConfiguration {
+        @Bean
+        public static PoolWaitMetricsTrackerFactory poolWaitMetricsTrackerFactory() {
+            return new PoolWaitMetricsTrackerFactory();
+        }
+
+        @Bean
+        public static BeanPostProcessor poolMetricsPostProcessor(PoolWaitMetricsTrackerFactory factory) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource) {
+                        ((HikariDataSource) bean).setMetricsTrackerFactory(factory);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QnAService qnAService;
+
+    @Autowired
+    private PoolWaitMetricsTrackerFactory poolWaitMetricsTrackerFactory;
+
+    @DisplayName("여러 스레드에서 질문 조회/삭제를 섞어 호출하며 부하를 측정한다")
+    @Test
+    public void load() throws Exception {
+        new QnaDataGenerator(jdbcTemplate).seed(USERS, QUESTIONS, ANSWERS_PER_QUESTION);
+
+        QnaLoadDriver driver = new QnaLoadDriver(qnAService, USERS, QUESTIONS, READ_RATIO);
+        String report = driver.run(THREADS, DURATION_MILLIS);
+
+        System.out.println(report);
+        System.out.println(poolWaitMetricsTrackerFactory.report());
+    }
+}
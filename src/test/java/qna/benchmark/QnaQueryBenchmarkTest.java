@@ -0,0 +1,123 @@
+package qna.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerRepository;
+import qna.domain.QuestionRepository;
+import qna.domain.UserRepository;
+
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * -Dbenchmark=true 로 실행한다. 데이터 크기는 -Dbenchmark.users, -Dbenchmark.questions,
+ * -Dbenchmark.answersPerQuestion, 반복 횟수는 -Dbenchmark.iterations 로 조정한다.
+ * 데이터는 클래스당 한번만 만들고, 측정 구간에서는 다시 만들지 않는다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:qna-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QnaQueryBenchmarkTest {
+    private static final int USERS = Integer.getInteger("benchmark.users", 10_000);
+    private static final int QUESTIONS = Integer.getInteger("benchmark.questions", 1_000_000);
+    private static final int ANSWERS_PER_QUESTION = Integer.getInteger("benchmark.answersPerQuestion", 3);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10_000);
+    private static final int WARMUP = ITERATIONS / 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @BeforeAll
+    public void setUp() {
+        long start = System.nanoTime();
+        new QnaDataGenerator(jdbcTemplate).seed(USERS, QUESTIONS, ANSWERS_PER_QUESTION);
+        System.out.printf("seeded users=%d questions=%d answers=%d in %dms%n", USERS, QUESTIONS,
+                (long) QUESTIONS * ANSWERS_PER_QUESTION, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @DisplayName("soft delete 조건 조회가 선언된 인덱스를 사용한다")
+    @Test
+    public void explain_usesIndexes() {
+        assertThat(explain("select id from question where id = 1 and deleted = false"))
+                .containsIgnoringCase("PRIMARY_KEY");
+        assertThat(explain("select id from question where deleted = false order by id desc limit 20"))
+                .containsIgnoringCase("IDX_QUESTION_DELETED");
+        assertThat(explain("select id from answer where question_id = 1 and deleted = false order by id"))
+                .containsIgnoringCase("IDX_ANSWER_QUESTION_DELETED");
+        assertThat(explain("select id from user where user_id = 'user1'"))
+                .containsIgnoringCase("UK_USER_USER_ID");
+    }
+
+    @DisplayName("대용량 데이터에서 soft delete 조건 조회의 지연 시간을 측정한다")
+    @Test
+    public void benchmark_queries() {
+        report("question.findByIdAndDeletedFalse", id -> transactionTemplate.execute(status ->
+                questionRepository.findByIdAndDeletedFalse(id)), QUESTIONS);
+
+        report("answer.findByQuestionAndDeletedFalse", id -> transactionTemplate.execute(status ->
+                questionRepository.findById(id).map(answerRepository::findByQuestionAndDeletedFalse)), QUESTIONS);
+
+        report("answer.findSummariesByQuestionId", id -> transactionTemplate.execute(status ->
+                answerRepository.findSummariesByQuestionIdAndDeletedFalse(id)), QUESTIONS);
+
+        report("user.findByUserId", id -> transactionTemplate.execute(status ->
+                userRepository.findByUserId("user" + id)), USERS);
+
+        report("question list page (jdbc)", id -> jdbcTemplate.queryForList(
+                "select id from question where deleted = false and id < ? order by id desc limit 20", Long.class, id),
+                QUESTIONS);
+    }
+
+    private String explain(String sql) {
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+        System.out.println(plan);
+        return plan;
+    }
+
+    private void report(String name, LongConsumer query, int maxId) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.accept(nextId(maxId));
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder(name, ITERATIONS);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long id = nextId(maxId);
+            long start = System.nanoTime();
+            query.accept(id);
+            recorder.record(System.nanoTime() - start);
+        }
+
+        System.out.println(recorder.report());
+    }
+
+    private long nextId(int maxId) {
+        return random.nextInt(maxId) + 1L;
+    }
+}
@@ -0,0 +1,145 @@
+package qna.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.UserTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeleteHistoryWriterTest {
+
+    private final DeleteHistoryRepository deleteHistoryRepository = mock(DeleteHistoryRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private List<DeleteHistory> histories(int count) {
+        List<DeleteHistory> histories = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            histories.add(new DeleteHistory(ContentType.ANSWER, i, UserTest.JAVAJIGI, LocalDateTime.now()));
+        }
+        return histories;
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("종료 시 큐에 남은 삭제 이력을 batch 크기 이하로 나누어 모두 저장한다")
+    @Test
+    public void shutdown_success_drain() throws Exception {
+        //given
+        DeleteHistoryWriter writer = new DeleteHistoryWriter(deleteHistoryRepository, transactionManager, 1000, 100, 1000, 50);
+
+        //when
+        writer.enqueue(histories(250));
+        writer.shutdown();
+
+        //then
+        ArgumentCaptor<List<DeleteHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deleteHistoryRepository, atLeastOnce()).saveAll(captor.capture());
+
+        int saved = 0;
+        for (List<DeleteHistory> batch : captor.getAllValues()) {
+            assertThat(batch.size()).isLessThanOrEqualTo(100);
+            saved += batch.size();
+        }
+        assertThat(saved).isEqualTo(250);
+        assertThat(writer.pendingCount()).isEqualTo(0);
+    }
+
+    @DisplayName("종료된 이후에 들어온 삭제 이력은 호출한 스레드에서 저장하지 않고 실패 건수로 남긴다")
+    @Test
+    public void enqueue_success_afterShutdown() throws Exception {
+        //given
+        DeleteHistoryWriter writer = new DeleteHistoryWriter(deleteHistoryRepository, transactionManager, 10, 10, 10, 50);
+        writer.shutdown();
+
+        //when
+        writer.enqueue(histories(3));
+
+        //then
+        verify(deleteHistoryRepository, never()).saveAll(anyList());
+        assertThat(writer.pendingCount()).isEqualTo(0);
+        assertThat(writer.failedCount()).isEqualTo(3);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("큐가 가득 차 있으면 넘친 이력을 호출한 스레드가 아닌 overflow 스레드에서 저장한다")
+    @Test
+    public void enqueue_success_queueFull() throws Exception {
+        //given
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(deleteHistoryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (first.compareAndSet(true, false)) {
+                writerBlocked.countDown();
+                release.await();
+            }
+            return invocation.getArgument(0);
+        });
+        DeleteHistoryWriter writer = new DeleteHistoryWriter(deleteHistoryRepository, transactionManager, 1, 10, 10, 10);
+        writer.enqueue(histories(1));
+        writerBlocked.await(1, TimeUnit.SECONDS);
+
+        //when
+        writer.enqueue(histories(3));
+
+        //then
+        ArgumentCaptor<List<DeleteHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deleteHistoryRepository, timeout(1000).times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(1)).hasSize(2);
+        assertThat(writer.pendingCount()).isEqualTo(1);
+
+        release.countDown();
+        writer.shutdown();
+        verify(deleteHistoryRepository, times(3)).saveAll(anyList());
+    }
+
+    @DisplayName("writer 스레드의 저장이 계속 실패하면 다시 시도한 뒤 실패 건수로 남긴다")
+    @Test
+    public void flush_fail_countFailed() throws Exception {
+        //given
+        when(deleteHistoryRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        DeleteHistoryWriter writer = new DeleteHistoryWriter(deleteHistoryRepository, transactionManager, 10, 10, 10, 50);
+
+        //when
+        writer.enqueue(histories(2));
+        writer.shutdown();
+
+        //then
+        verify(deleteHistoryRepository, times(3)).saveAll(anyList());
+        assertThat(writer.failedCount()).isEqualTo(2);
+    }
+
+    @DisplayName("넘친 이력의 저장이 실패해도 enqueue 한 쪽에는 예외가 전달되지 않는다")
+    @Test
+    public void enqueue_fail_overflowSaveFailed() throws Exception {
+        //given
+        when(deleteHistoryRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        DeleteHistoryWriter writer = new DeleteHistoryWriter(deleteHistoryRepository, transactionManager, 1, 10, 60_000, 10);
+
+        //when
+        writer.enqueue(histories(3));
+        writer.shutdown();
+
+        //then
+        assertThat(writer.failedCount()).isEqualTo(3);
+    }
+}
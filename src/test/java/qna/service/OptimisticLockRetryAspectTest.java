@@ -0,0 +1,79 @@
+package qna.service;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import qna.domain.Question;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OptimisticLockRetryAspectTest {
+
+    private final OptimisticLockRetryMetrics metrics = new OptimisticLockRetryMetrics();
+    private final OptimisticLockRetryAspect aspect = new OptimisticLockRetryAspect(metrics);
+    private final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+    @RetryOnOptimisticLock(maxAttempts = 3)
+    private void annotated() {
+    }
+
+    private RetryOnOptimisticLock retryOnOptimisticLock() throws Exception {
+        return getClass().getDeclaredMethod("annotated").getAnnotation(RetryOnOptimisticLock.class);
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Question.class, 1L);
+    }
+
+    @DisplayName("낙관적 락 충돌이 나면 다시 시도하고 성공하면 결과를 반환한다")
+    @Test
+    public void retry_success() throws Throwable {
+        //given
+        when(joinPoint.proceed()).thenThrow(conflict()).thenThrow(conflict()).thenReturn("deleted");
+
+        //when
+        Object result = aspect.retry(joinPoint, retryOnOptimisticLock());
+
+        //then
+        assertThat(result).isEqualTo("deleted");
+        verify(joinPoint, times(3)).proceed();
+        assertThat(metrics.getConflicts()).isEqualTo(2L);
+        assertThat(metrics.getRetries()).isEqualTo(2L);
+        assertThat(metrics.getRecovered()).isEqualTo(1L);
+        assertThat(metrics.getExhausted()).isEqualTo(0L);
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 충돌 예외를 그대로 던진다")
+    @Test
+    public void retry_fail_exhausted() throws Throwable {
+        //given
+        when(joinPoint.proceed()).thenThrow(conflict());
+
+        //then
+        assertThatThrownBy(
+                () -> aspect.retry(joinPoint, retryOnOptimisticLock())
+        ).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(joinPoint, times(3)).proceed();
+        assertThat(metrics.getExhausted()).isEqualTo(1L);
+    }
+
+    @DisplayName("낙관적 락 충돌이 아닌 예외는 재시도 하지 않는다")
+    @Test
+    public void retry_fail_otherException() throws Throwable {
+        //given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+
+        //then
+        assertThatThrownBy(
+                () -> aspect.retry(joinPoint, retryOnOptimisticLock())
+        ).isInstanceOf(IllegalStateException.class);
+        verify(joinPoint, times(1)).proceed();
+        assertThat(metrics.getConflicts()).isEqualTo(0L);
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import qna.CannotDeleteException;
+import qna.NotFoundException;
 import qna.domain.*;
 
 import java.time.LocalDateTime;
@@ -16,6 +17,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,9 @@ public class QnaServiceTest {
     @Mock
     private QuestionRepository questionRepository;
 
+    @Mock
+    private AnswerRepository answerRepository;
+
     @Mock
     private DeleteHistoryService deleteHistoryService;
 
@@ -80,6 +85,26 @@ public class QnaServiceTest {
         }).isInstanceOf(CannotDeleteException.class);
     }
 
+    @Test
+    public void addAnswer_성공() throws Exception {
+        when(questionRepository.findForAnswerByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.save(any(Answer.class))).then(invocation -> invocation.getArgument(0));
+
+        Answer added = qnAService.addAnswer(UserTest.SANJIGI, question.getId(), "contents");
+
+        assertThat(added.getWriter()).isEqualTo(UserTest.SANJIGI);
+        verify(answerRepository).save(added);
+    }
+
+    @Test
+    public void findQuestionDetail_없는_질문() throws Exception {
+        when(questionRepository.findDetailByIdAndDeletedFalse(question.getId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> {
+            qnAService.findQuestionDetailById(question.getId());
+        }).isInstanceOf(NotFoundException.class);
+    }
+
     private void verifyDeleteHistories() {
         List<DeleteHistory> deleteHistories = Arrays.asList(
                 new DeleteHistory(ContentType.QUESTION, question.getId(), question.getWriter(), LocalDateTime.now()),